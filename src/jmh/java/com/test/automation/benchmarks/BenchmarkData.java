@@ -0,0 +1,89 @@
+package com.test.automation.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Generates the workbooks and CSV files read by the data benchmarks.
+ * Every row has the same five columns as the framework's own login data.
+ */
+final class BenchmarkData {
+    static final String SHEET = "Data";
+    private static final String[] HEADERS = {"username", "password", "email", "role", "expected"};
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private BenchmarkData() {
+    }
+
+    /**
+     * Writes an XLSX workbook with a header row and the given number of data rows
+     */
+    static Path writeWorkbook(Path dir, int rows) throws IOException {
+        Path path = dir.resolve("data-" + rows + ".xlsx");
+        // Streaming workbook keeps only a window of rows in memory, so 1M rows fit in a small heap
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+                OutputStream out = Files.newOutputStream(path)) {
+            Sheet sheet = workbook.createSheet(SHEET);
+            write(sheet.createRow(0), HEADERS);
+            for (int i = 1; i <= rows; i++) {
+                write(sheet.createRow(i), row(i));
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+        return path;
+    }
+
+    /**
+     * Writes a CSV file with a header line and the given number of data lines
+     */
+    static Path writeCsv(Path dir, int rows) throws IOException {
+        Path path = dir.resolve("data-" + rows + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(String.join(",", HEADERS));
+            writer.newLine();
+            for (int i = 1; i <= rows; i++) {
+                writer.write(String.join(",", row(i)));
+                writer.newLine();
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Deletes a directory created for a benchmark trial
+     */
+    static void delete(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static String[] row(int i) {
+        return new String[] {"user" + i, "Secret#" + (i % 997), "user" + i + "@example.com",
+                i % 10 == 0 ? "admin" : "standard", i % 7 == 0 ? "failure" : "success"};
+    }
+
+    private static void write(Row row, String[] values) {
+        for (int c = 0; c < values.length; c++) {
+            row.createCell(c).setCellValue(values[c]);
+        }
+    }
+}
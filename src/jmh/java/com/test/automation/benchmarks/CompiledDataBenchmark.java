@@ -0,0 +1,66 @@
+package com.test.automation.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.test.automation.utils.DataUtils;
+
+/**
+ * Warm reads of the same workbooks as {@link DataReaderBenchmark}, served from the
+ * compiled sheet cache that the first read of each workbook creates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = "-Xmx4g", jvmArgsAppend = {"-Ddata.cache.enabled=true", "-Ddata.cache.dir=target/jmh-data-cache"})
+public class CompiledDataBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private Path dir;
+    private String workbook;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        dir = Files.createTempDirectory("jmh-data");
+        workbook = BenchmarkData.writeWorkbook(dir, rows).toString();
+        // The first read of each kind compiles the sheet; every measured read hits the cache
+        DataUtils.getExcelData(workbook, BenchmarkData.SHEET);
+        DataUtils.streamExcelData(workbook, BenchmarkData.SHEET).forEachRemaining(row -> { });
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        BenchmarkData.delete(dir);
+    }
+
+    @Benchmark
+    public Object[][] excelCompiled() {
+        return DataUtils.getExcelData(workbook, BenchmarkData.SHEET);
+    }
+
+    @Benchmark
+    public void excelCompiledStreaming(Blackhole blackhole) {
+        DataReaderBenchmark.drain(DataUtils.streamExcelData(workbook, BenchmarkData.SHEET), blackhole);
+    }
+}
@@ -0,0 +1,50 @@
+package com.test.automation.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Configuration lookups as made by every page and wait, alone and under contention
+ * from as many threads as a parallel suite would run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public ConfigManager getInstance() {
+        return ConfigManager.getInstance();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ConfigManager getInstanceContended() {
+        return ConfigManager.getInstance();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int getIntProperty() {
+        return ConfigManager.getInstance().getIntProperty("explicit.wait", 10);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int getIntPropertyContended() {
+        return ConfigManager.getInstance().getIntProperty("explicit.wait", 10);
+    }
+}
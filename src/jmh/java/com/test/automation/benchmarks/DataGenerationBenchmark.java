@@ -0,0 +1,44 @@
+package com.test.automation.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.test.automation.utils.DataUtils;
+
+/**
+ * Throughput of random test data generation, from one thread and from a parallel suite.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataGenerationBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public Map<String, String> generateRandomTestData() {
+        return DataUtils.generateRandomTestData();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<String, String> generateRandomTestDataContended() {
+        return DataUtils.generateRandomTestData();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String generateRandomPassword() {
+        return DataUtils.generateRandomPassword(8, 16);
+    }
+}
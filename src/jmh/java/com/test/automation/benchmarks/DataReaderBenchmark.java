@@ -0,0 +1,90 @@
+package com.test.automation.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.test.automation.utils.CsvReader;
+import com.test.automation.utils.DataUtils;
+import com.test.automation.utils.ExcelStreamReader;
+
+/**
+ * Cold reads of generated test data: the full in-memory workbook load against the
+ * streaming XLSX and CSV readers. The compiled sheet cache is disabled for this fork
+ * so every invocation parses the source file; see {@link CompiledDataBenchmark}.
+ * Pass {@code -p rows=1000000} to include the largest workbooks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = "-Xmx4g", jvmArgsAppend = {"-Ddata.cache.enabled=false"})
+public class DataReaderBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private Path dir;
+    private String workbook;
+    private String csv;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        dir = Files.createTempDirectory("jmh-data");
+        workbook = BenchmarkData.writeWorkbook(dir, rows).toString();
+        csv = BenchmarkData.writeCsv(dir, rows).toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        BenchmarkData.delete(dir);
+    }
+
+    @Benchmark
+    public Object[][] excelFull() {
+        return DataUtils.getExcelData(workbook, BenchmarkData.SHEET);
+    }
+
+    @Benchmark
+    public void excelStreaming(Blackhole blackhole) throws IOException {
+        try (ExcelStreamReader reader = ExcelStreamReader.open(workbook, BenchmarkData.SHEET)) {
+            drain(reader, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void csvStreaming(Blackhole blackhole) {
+        drain(DataUtils.streamCsvData(csv), blackhole);
+    }
+
+    @Benchmark
+    public long csvParallel() throws IOException {
+        try (CsvReader reader = DataUtils.openCsv(csv)) {
+            return reader.stream().parallel().count();
+        }
+    }
+
+    static void drain(Iterator<Object[]> rows, Blackhole blackhole) {
+        while (rows.hasNext()) {
+            blackhole.consume(rows.next());
+        }
+    }
+}
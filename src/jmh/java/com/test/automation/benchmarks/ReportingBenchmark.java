@@ -0,0 +1,125 @@
+package com.test.automation.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.OutputType;
+
+import com.aventstack.extentreports.Status;
+import com.test.automation.utils.ReportManager;
+import com.test.automation.utils.ReportTest;
+import com.test.automation.utils.ScreenshotService;
+
+/**
+ * Time a test thread spends on reporting: logging one test's worth of report events,
+ * and taking screenshots from a stub driver through the asynchronous service
+ * compared with writing them synchronously. Each invocation stands for one test,
+ * so the report and screenshot folders stay small; screenshots are deleted afterwards.
+ * Asynchronous screenshots are written out between invocations, and a dropped screenshot
+ * fails the run, so the async figure never measures the drop path of a full queue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 50)
+@Fork(1)
+public class ReportingBenchmark {
+    private static final String PREFIX = "jmh_";
+    private static final int STEPS = 100;
+    private static final int SCREENSHOTS = 10;
+
+    private StubDriver driver;
+    private Path syncDir;
+    private int counter;
+    private final List<Path> pending = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        driver = new StubDriver(1280, 800);
+        syncDir = Files.createTempDirectory("jmh-screenshots");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ScreenshotService.shutdown();
+        ReportManager.close();
+        BenchmarkData.delete(syncDir);
+        Path screenshots = Paths.get(ScreenshotService.SCREENSHOT_PATH);
+        if (!Files.isDirectory(screenshots)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(screenshots)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().startsWith(PREFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the screenshots of the last invocation to be written, so the next one starts with an empty queue
+     */
+    @TearDown(Level.Invocation)
+    public void awaitScreenshots() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        for (Path path : pending) {
+            while (!Files.exists(path)) {
+                if (System.nanoTime() - deadline > 0) {
+                    throw new IllegalStateException("Screenshot was not written: " + path);
+                }
+                Thread.sleep(1);
+            }
+        }
+        pending.clear();
+    }
+
+    @Benchmark
+    public ReportTest reportEvents() {
+        ReportTest test = ReportManager.createTest(PREFIX + "report_" + counter++);
+        for (int i = 0; i < STEPS; i++) {
+            test.info("Step " + i);
+        }
+        return test.result(Status.PASS, "Test passed");
+    }
+
+    @Benchmark
+    public void screenshotAsync(Blackhole blackhole) {
+        for (int i = 0; i < SCREENSHOTS; i++) {
+            String path = ScreenshotService.capture(driver, PREFIX + "async_" + counter++);
+            if (path == null) {
+                throw new IllegalStateException("Screenshot dropped; raise screenshot.queue.size above " + SCREENSHOTS);
+            }
+            pending.add(Paths.get(path));
+            blackhole.consume(path);
+        }
+    }
+
+    @Benchmark
+    public void screenshotSync() throws IOException {
+        for (int i = 0; i < SCREENSHOTS; i++) {
+            byte[] png = driver.getScreenshotAs(OutputType.BYTES);
+            Files.write(syncDir.resolve(PREFIX + "sync_" + counter++ + ".png"), png);
+        }
+    }
+}
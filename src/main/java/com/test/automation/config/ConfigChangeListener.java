@@ -0,0 +1,13 @@
+package com.test.automation.config;
+
+/**
+ * Callback notified after the configuration has been reloaded and a new snapshot published.
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * Called on the watcher thread with the snapshot that was replaced and the one now in effect
+     */
+    void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current);
+}
@@ -2,95 +2,277 @@ package com.test.automation.config;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * Manages configuration properties for the test framework.
  * Loads properties from a configuration file and provides methods to access them.
+ * Values are held in an immutable {@link ConfigSnapshot} published through a
+ * volatile reference, so reads take no lock and never re-parse.
+ * With {@code config.watch.enabled=true} the files are watched and a new
+ * snapshot is swapped in atomically whenever they change. Callers that read
+ * several related values should take one {@link #getSnapshot()} and read from it.
  */
 public class ConfigManager {
     private static final Logger logger = LogManager.getLogger(ConfigManager.class);
-    private static ConfigManager instance;
-    private final Properties properties;
-    
+    private static final String CONFIG_DIR = "src/test/resources";
+    private final Set<String> reportedKeys = ConcurrentHashMap.newKeySet();
+    private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile ConfigSnapshot snapshot;
+    private WatchService watchService;
+
     private ConfigManager() {
-        properties = new Properties();
-        try {
-            // Load default properties first
-            loadProperties("src/test/resources/config.properties");
-            
-            // Check if environment-specific properties file exists and load it
-            String env = System.getProperty("env", "qa");
-            String envPropertiesPath = "src/test/resources/" + env + ".properties";
-            loadProperties(envPropertiesPath);
-            
-            logger.info("Configuration loaded successfully");
-        } catch (IOException e) {
-            logger.error("Failed to load configuration properties", e);
+        snapshot = load();
+        logger.info("Configuration loaded successfully");
+
+        if (snapshot.getBoolean("config.watch.enabled") == Boolean.TRUE) {
+            startWatching();
         }
     }
-    
+
+    /**
+     * Lazily creates the singleton on first use, without synchronizing later calls
+     */
+    private static final class Holder {
+        private static final ConfigManager INSTANCE = new ConfigManager();
+    }
+
+    /**
+     * Loads the default and environment-specific files and merges overrides
+     */
+    private static ConfigSnapshot load() {
+        Properties properties = new Properties();
+
+        // Load default properties first
+        loadProperties(properties, CONFIG_DIR + "/config.properties");
+
+        // Check if environment-specific properties file exists and load it
+        loadProperties(properties, CONFIG_DIR + "/" + envFileName());
+
+        return ConfigSnapshot.of(properties, System.getenv(), System.getProperties());
+    }
+
+    private static String envFileName() {
+        return System.getProperty("env", "qa") + ".properties";
+    }
+
     /**
      * Loads properties from the specified file path
      */
-    private void loadProperties(String filePath) throws IOException {
+    private static void loadProperties(Properties properties, String filePath) {
         try (FileInputStream fis = new FileInputStream(filePath)) {
             properties.load(fis);
             logger.info("Loaded properties from: {}", filePath);
         } catch (IOException e) {
-            logger.warn("Could not load properties file: {}", filePath);
-            throw e;
+            logger.error("Could not load properties file: {}", filePath, e);
         }
     }
-    
+
     /**
      * Returns the singleton instance of ConfigManager
      */
-    public static synchronized ConfigManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigManager();
+    public static ConfigManager getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Registers a listener notified after each reload that changes the configuration
+     */
+    public void addListener(ConfigChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener
+     */
+    public void removeListener(ConfigChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Re-reads the configuration files and publishes a new snapshot if anything changed
+     */
+    public synchronized void reload() {
+        ConfigSnapshot previous = snapshot;
+        ConfigSnapshot current = load();
+        Set<String> changed = previous.changedKeys(current);
+        if (changed.isEmpty()) {
+            logger.debug("Configuration files touched but no values changed");
+            return;
+        }
+
+        snapshot = current;
+        reportedKeys.clear();
+        logger.info("Configuration reloaded, changed keys: {}", changed);
+
+        for (ConfigChangeListener listener : listeners) {
+            try {
+                listener.onConfigChange(previous, current);
+            } catch (RuntimeException e) {
+                logger.error("Configuration listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Starts a background thread that reloads the configuration when its files change
+     */
+    public synchronized void startWatching() {
+        if (watchService != null) {
+            return;
         }
-        return instance;
+        Path dir = Paths.get(CONFIG_DIR).toAbsolutePath();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            logger.error("Could not watch configuration directory: {}", dir, e);
+            return;
+        }
+
+        Thread watcher = new Thread(() -> watch(watchService), "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching configuration directory: {}", dir);
+    }
+
+    /**
+     * Stops watching the configuration files
+     */
+    public synchronized void stopWatching() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close configuration watch service", e);
+            }
+            watchService = null;
+        }
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean relevant = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if (context instanceof Path) {
+                        String fileName = ((Path) context).getFileName().toString();
+                        relevant |= fileName.equals("config.properties") || fileName.equals(envFileName());
+                    }
+                }
+                key.reset();
+
+                if (relevant) {
+                    // Editors often write a file in several steps; let them settle before re-reading
+                    Thread.sleep(200);
+                    WatchKey pending;
+                    while ((pending = service.poll()) != null) {
+                        pending.pollEvents();
+                        pending.reset();
+                    }
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            logger.info("Stopped watching configuration directory");
+        }
+    }
+
+    /**
+     * Gets the current configuration snapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
-    
+
     /**
      * Gets a property value as String
      */
     public String getProperty(String key) {
-        String value = properties.getProperty(key);
-        if (value == null) {
+        String value = snapshot.get(key);
+        if (value == null && reportedKeys.add(key)) {
             logger.warn("Property not found: {}", key);
         }
         return value;
     }
-    
+
     /**
      * Gets a property value with a default fallback
      */
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        String value = snapshot.get(key);
+        return value == null ? defaultValue : value;
     }
-    
+
     /**
      * Gets a property value as boolean
      */
     public boolean getBooleanProperty(String key) {
-        String value = getProperty(key);
-        return Boolean.parseBoolean(value);
+        Boolean value = snapshot.getBoolean(key);
+        if (value == null) {
+            getProperty(key);
+            return false;
+        }
+        return value;
     }
-    
+
+    /**
+     * Gets a property value as boolean with a default fallback
+     */
+    public boolean getBooleanProperty(String key, boolean defaultValue) {
+        Boolean value = snapshot.getBoolean(key);
+        return value == null ? defaultValue : value;
+    }
+
     /**
      * Gets a property value as integer
      */
     public int getIntProperty(String key) {
-        String value = getProperty(key);
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException e) {
-            logger.error("Failed to parse integer property: {}", key, e);
+        ConfigSnapshot current = snapshot;
+        Integer value = current.getInt(key);
+        if (value == null) {
+            if (current.contains(key) && reportedKeys.add(key)) {
+                logger.error("Failed to parse integer property: {}", key);
+            } else {
+                getProperty(key);
+            }
             return 0;
         }
+        return value;
+    }
+
+    /**
+     * Gets a property value as integer with a default fallback
+     */
+    public int getIntProperty(String key, int defaultValue) {
+        ConfigSnapshot current = snapshot;
+        Integer value = current.getInt(key);
+        if (value == null) {
+            String raw = current.get(key);
+            if (raw != null && !raw.isBlank() && reportedKeys.add(key)) {
+                logger.error("Failed to parse integer property: {}", key);
+            }
+            return defaultValue;
+        }
+        return value;
     }
-}
\ No newline at end of file
+}
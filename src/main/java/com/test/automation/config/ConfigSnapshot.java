@@ -0,0 +1,142 @@
+package com.test.automation.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Immutable, fully merged view of the configuration.
+ * File values, environment variables and system properties are merged once
+ * and every boolean and integer is parsed up front, so reads never parse or lock.
+ */
+public final class ConfigSnapshot {
+    // Keys the framework reads without a default in any properties file
+    private static final Set<String> UNDECLARED_KEYS = Set.of("shard", "driver.cache.index");
+    private static final String UNDECLARED_PREFIX = "test.";
+
+    private final Map<String, String> values;
+    private final Map<String, Integer> ints;
+    private final Map<String, Boolean> booleans;
+
+    private ConfigSnapshot(Map<String, String> values) {
+        Map<String, Integer> parsedInts = new HashMap<>();
+        Map<String, Boolean> parsedBooleans = new HashMap<>();
+        values.forEach((key, value) -> {
+            String trimmed = value.trim();
+            if (trimmed.isEmpty()) {
+                return;
+            }
+            parsedBooleans.put(key, Boolean.parseBoolean(trimmed));
+            try {
+                parsedInts.put(key, Integer.parseInt(trimmed));
+            } catch (NumberFormatException e) {
+                // Not an integer property
+            }
+        });
+        this.values = Collections.unmodifiableMap(values);
+        this.ints = Collections.unmodifiableMap(parsedInts);
+        this.booleans = Collections.unmodifiableMap(parsedBooleans);
+    }
+
+    /**
+     * Builds a snapshot from file properties, applying overrides in order of precedence:
+     * files, then environment variables (e.g. BASE_URL for base.url), then system properties.
+     * Overrides apply to keys that a properties file declares. Keys no file declares are only
+     * taken from the few the framework reads without a file default, such as shard, and from
+     * keys under {@code test.} (TEST_ in the environment), so unrelated variables and
+     * properties set at runtime stay out of the configuration.
+     */
+    static ConfigSnapshot of(Properties fileProperties, Map<String, String> environment, Properties systemProperties) {
+        Map<String, String> merged = new HashMap<>();
+        Map<String, String> keysByEnvironmentName = new HashMap<>();
+        for (String key : fileProperties.stringPropertyNames()) {
+            merged.put(key, fileProperties.getProperty(key));
+            keysByEnvironmentName.put(toEnvironmentName(key), key);
+        }
+        environment.forEach((name, value) -> {
+            String key = keysByEnvironmentName.get(name.toUpperCase(Locale.ROOT));
+            if (key == null) {
+                key = fromEnvironmentName(name);
+            }
+            if (fileProperties.containsKey(key) || isUndeclaredOverride(key)) {
+                merged.put(key, value);
+            }
+        });
+        for (String key : systemProperties.stringPropertyNames()) {
+            if (fileProperties.containsKey(key) || isUndeclaredOverride(key)) {
+                merged.put(key, systemProperties.getProperty(key));
+            }
+        }
+        return new ConfigSnapshot(merged);
+    }
+
+    private static boolean isUndeclaredOverride(String key) {
+        return UNDECLARED_KEYS.contains(key) || key.startsWith(UNDECLARED_PREFIX);
+    }
+
+    private static String toEnvironmentName(String key) {
+        return key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+    }
+
+    private static String fromEnvironmentName(String name) {
+        return name.toLowerCase(Locale.ROOT).replace('_', '.');
+    }
+
+    /**
+     * Gets the raw value, or null if the key is not configured
+     */
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Gets the pre-parsed integer value, or null if missing, blank or not an integer
+     */
+    public Integer getInt(String key) {
+        return ints.get(key);
+    }
+
+    /**
+     * Gets the pre-parsed boolean value, or null if missing or blank
+     */
+    public Boolean getBoolean(String key) {
+        return booleans.get(key);
+    }
+
+    /**
+     * Checks whether the key is configured
+     */
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * Gets the keys whose values differ between this snapshot and another
+     */
+    public Set<String> changedKeys(ConfigSnapshot other) {
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (!Objects.equals(entry.getValue(), other.values.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String key : other.values.keySet()) {
+            if (!values.containsKey(key)) {
+                changed.add(key);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Gets all configured values
+     */
+    public Map<String, String> asMap() {
+        return values;
+    }
+}
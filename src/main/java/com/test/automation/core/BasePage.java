@@ -1,20 +1,31 @@
 package com.test.automation.core;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.test.automation.config.ConfigManager;
+import com.test.automation.utils.BrowserUtils;
+import com.test.automation.utils.LocatorScripts;
+import com.test.automation.utils.NegativeLookupStats;
+import com.test.automation.utils.WaitUtils;
+
 /**
  * Base class for all Page Objects.
  * Provides common functionality for page interactions.
@@ -30,9 +41,11 @@ public abstract class BasePage {
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        this.actions = new Actions(driver);
-        PageFactory.initElements(driver, this);
+        this.wait = PageRegistry.waitFor(driver);
+        this.actions = PageRegistry.actionsFor(driver);
+        if (PageRegistry.needsPageFactory(getClass())) {
+            PageFactory.initElements(driver, this);
+        }
         logger.debug("Initialized {}",
                 this.getClass().getSimpleName());
     }
@@ -44,7 +57,7 @@ public abstract class BasePage {
         try {
             logger.debug("Waiting for element to be visible: {}",
                     locator);
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            return WaitUtils.waitForElementVisible(driver, locator, timeoutInSeconds());
         } catch (TimeoutException e) {
             logger.error("Element not visible after timeout: {}", locator, e);
             throw e;
@@ -57,23 +70,22 @@ public abstract class BasePage {
     protected WebElement waitForElementClickable(By locator) {
         try {
             logger.debug("Waiting for element to be clickable: {}", locator);
-            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+            return WaitUtils.waitForElementClickable(driver, locator, timeoutInSeconds());
         } catch (TimeoutException e) {
             logger.error("Element not clickable after timeout: {}", locator, e);
             throw e;
         }
     }
 
+    private int timeoutInSeconds() {
+        return (int) WaitUtils.getDefaultTimeout().getSeconds();
+    }
+
     /**
-     * Checks if an element exists
+     * Checks if an element exists, without waiting for it to appear
      */
     public boolean isElementPresent(By locator) {
-        try {
-            driver.findElement(locator);
-            return true;
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return BrowserUtils.isElementPresent(driver, locator);
     }
 
     /**
@@ -81,6 +93,7 @@ public abstract class BasePage {
      */
     protected void click(By locator) {
         logger.debug("Clicking on element: {}", locator);
+        invalidateSnapshot();
         waitForElementClickable(locator).click();
     }
 
@@ -89,6 +102,7 @@ public abstract class BasePage {
      */
     protected void sendKeys(By locator, String text) {
         logger.debug("Entering text in element: {}, Text: {}", locator, text);
+        invalidateSnapshot();
         WebElement element = waitForElementVisible(locator);
         element.clear();
         element.sendKeys(text);
@@ -117,4 +131,195 @@ public abstract class BasePage {
         WebElement element = driver.findElement(locator);
         scrollToElement(element);
     }
-}
\ No newline at end of file
+
+    /**
+     * Navigates to a URL
+     */
+    protected void navigate(String url) {
+        invalidateSnapshot();
+        driver.get(url);
+    }
+
+    /**
+     * Checks whether pages should answer repeated queries from a snapshot (page.snapshot.enabled).
+     * Off by default: a snapshot does not see direct driver calls or DOM updates made by
+     * the page itself until it expires.
+     */
+    protected boolean isSnapshotEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("page.snapshot.enabled", false);
+    }
+
+    /**
+     * Gets a snapshot of the given elements, reusing the current one when it already
+     * covers them and is younger than page.snapshot.ttl.ms; otherwise captures all of
+     * them in a single script call. Callers should check {@link #isSnapshotEnabled()} first.
+     */
+    protected PageSnapshot snapshot(By... locators) {
+        PageSnapshot current = PageRegistry.snapshotFor(driver);
+        long ttlNanos = TimeUnit.MILLISECONDS.toNanos(
+                ConfigManager.getInstance().getIntProperty("page.snapshot.ttl.ms", 1000));
+        if (current != null && current.ageNanos() < ttlNanos && current.covers(locators)) {
+            return current;
+        }
+        PageSnapshot captured = captureSnapshot(locators);
+        PageRegistry.setSnapshot(driver, captured);
+        return captured;
+    }
+
+    /**
+     * Drops the current snapshot; called before any action that may change the page
+     */
+    protected void invalidateSnapshot() {
+        PageRegistry.setSnapshot(driver, null);
+    }
+
+    /**
+     * Captures the locators and counts each one as a presence check in {@link NegativeLookupStats},
+     * sharing the capture time between them
+     */
+    private PageSnapshot captureSnapshot(By... locators) {
+        long start = System.nanoTime();
+        PageSnapshot snapshot = capture(locators);
+        long elapsedPerLocator = (System.nanoTime() - start) / Math.max(1, locators.length);
+        for (By locator : locators) {
+            NegativeLookupStats.record(snapshot.isPresent(locator), elapsedPerLocator);
+        }
+        return snapshot;
+    }
+
+    private PageSnapshot capture(By... locators) {
+        Map<By, PageSnapshot.Entry> entries = new HashMap<>();
+        List<By> scripted = new ArrayList<>();
+        List<List<Object>> specs = new ArrayList<>();
+        boolean canScript = driver instanceof JavascriptExecutor;
+        for (By locator : locators) {
+            if (canScript && LocatorScripts.supports(locator)) {
+                scripted.add(locator);
+                specs.add(List.of(LocatorScripts.arguments(locator)));
+            } else {
+                entries.put(locator, captureEntry(locator));
+            }
+        }
+        if (!canScript) {
+            return new PageSnapshot(driver.getCurrentUrl(), entries);
+        }
+
+        String script = "var find = " + LocatorScripts.FIND + ";"
+                + "var isVisible = " + LocatorScripts.IS_VISIBLE + ";"
+                + "return {url: location.href, entries: arguments[0].map(function (spec) {"
+                + "  var elements = find(spec[0], spec[1]), el = elements[0];"
+                + "  if (!el) { return {count: 0}; }"
+                + "  var shown = isVisible(el);"
+                + "  return {count: elements.length, displayed: shown,"
+                + "    text: shown ? (el.innerText || '').trim() : '', selected: !!(el.checked || el.selected)};"
+                + "})};";
+        Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(script, specs);
+        List<?> captured = (List<?>) result.get("entries");
+        for (int i = 0; i < scripted.size(); i++) {
+            Map<?, ?> entry = (Map<?, ?>) captured.get(i);
+            int count = toInt(entry.get("count"));
+            entries.put(scripted.get(i), count == 0 ? PageSnapshot.Entry.ABSENT : new PageSnapshot.Entry(count,
+                    Boolean.TRUE.equals(entry.get("displayed")),
+                    String.valueOf(entry.get("text")),
+                    Boolean.TRUE.equals(entry.get("selected"))));
+        }
+        return new PageSnapshot(String.valueOf(result.get("url")), entries);
+    }
+
+    /**
+     * Captures one locator with WebDriver calls, for locators that can't be resolved in the page
+     */
+    private PageSnapshot.Entry captureEntry(By locator) {
+        List<WebElement> elements = BrowserUtils.findElementsWithoutWait(driver, locator);
+        if (elements.isEmpty()) {
+            return PageSnapshot.Entry.ABSENT;
+        }
+        WebElement first = elements.get(0);
+        boolean displayed = first.isDisplayed();
+        return new PageSnapshot.Entry(elements.size(), displayed, displayed ? first.getText() : "", first.isSelected());
+    }
+
+    /**
+     * Gets the visible text of every element matching the locator in one script call.
+     * Hidden elements yield an empty string, as with WebElement.getText().
+     */
+    protected List<String> getTexts(By locator) {
+        logger.debug("Getting texts of all elements: {}", locator);
+        return readAll(locator, "isVisible(el) ? (el.innerText || '').trim() : ''", null,
+                value -> value == null ? "" : value.toString(),
+                WebElement::getText);
+    }
+
+    /**
+     * Gets a DOM attribute of every element matching the locator in one script call.
+     * Missing attributes yield null, as with WebElement.getDomAttribute().
+     */
+    protected List<String> getAttributes(By locator, String attribute) {
+        logger.debug("Getting attribute {} of all elements: {}", attribute, locator);
+        return readAll(locator, "el.getAttribute(arguments[2])", attribute,
+                value -> value == null ? null : value.toString(),
+                element -> element.getDomAttribute(attribute));
+    }
+
+    /**
+     * Gets whether each element matching the locator is displayed, in one script call
+     */
+    protected List<Boolean> getVisibility(By locator) {
+        logger.debug("Getting visibility of all elements: {}", locator);
+        return readAll(locator, "isVisible(el)", null,
+                Boolean.TRUE::equals,
+                WebElement::isDisplayed);
+    }
+
+    /**
+     * Gets the position and size of every element matching the locator, relative to
+     * the top-left of the document, in one script call
+     */
+    protected List<Rectangle> getRects(By locator) {
+        logger.debug("Getting rectangles of all elements: {}", locator);
+        return readAll(locator,
+                "(function (r) { return {x: r.left + window.scrollX, y: r.top + window.scrollY,"
+                        + " width: r.width, height: r.height}; })(el.getBoundingClientRect())",
+                null,
+                value -> {
+                    Map<?, ?> rect = (Map<?, ?>) value;
+                    return new Rectangle(toInt(rect.get("x")), toInt(rect.get("y")),
+                            toInt(rect.get("height")), toInt(rect.get("width")));
+                },
+                WebElement::getRect);
+    }
+
+    /**
+     * Maps every element matching the locator through a JavaScript expression over {@code el},
+     * in a single script call. Falls back to one WebDriver call per element when the
+     * locator cannot be resolved in the page.
+     */
+    private <T> List<T> readAll(By locator, String expression, Object argument,
+                                Function<Object, T> converter, Function<WebElement, T> fallback) {
+        if (!(driver instanceof JavascriptExecutor) || !LocatorScripts.supports(locator)) {
+            List<T> values = new ArrayList<>();
+            for (WebElement element : driver.findElements(locator)) {
+                values.add(fallback.apply(element));
+            }
+            return values;
+        }
+
+        Object[] arguments = LocatorScripts.arguments(locator);
+        String script = "var find = " + LocatorScripts.FIND + ";"
+                + "var isVisible = " + LocatorScripts.IS_VISIBLE + ";"
+                + "return find(arguments[0], arguments[1]).map(function (el) { return " + expression + "; });";
+        Object result = ((JavascriptExecutor) driver).executeScript(script, arguments[0], arguments[1], argument);
+        if (!(result instanceof List)) {
+            return Collections.emptyList();
+        }
+        List<T> values = new ArrayList<>();
+        for (Object value : (List<?>) result) {
+            values.add(converter.apply(value));
+        }
+        return values;
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number ? (int) Math.round(((Number) value).doubleValue()) : 0;
+    }
+}
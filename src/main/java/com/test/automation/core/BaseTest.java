@@ -1,38 +1,36 @@
 package com.test.automation.core;
 
-import java.io.File;
 import java.lang.reflect.Method;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.testng.IConfigurable;
+import org.testng.IConfigureCallBack;
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
 
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
-import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.test.automation.config.ConfigManager;
+import com.test.automation.utils.CommandTimings;
 import com.test.automation.utils.DriverManager;
+import com.test.automation.utils.ExecutionContext;
+import com.test.automation.utils.NegativeLookupStats;
+import com.test.automation.utils.ReportManager;
+import com.test.automation.utils.ReportTest;
+import com.test.automation.utils.ScreenshotService;
 
 /**
  * Base class for all test classes.
  * Handles test setup, teardown, and reporting.
  */
-public abstract class BaseTest {
+public abstract class BaseTest implements IHookable, IConfigurable {
     protected static final Logger logger = LogManager.getLogger(BaseTest.class);
     protected WebDriver driver;
-    protected ExtentTest test;
-    
-    private static ExtentReports extent;
-    private static final String REPORT_PATH = "test-output/ExtentReport.html";
-    private static final String SCREENSHOT_PATH = "test-output/screenshots/";
+    protected ReportTest test;
     
     /**
      * Setup before the entire test suite
@@ -41,20 +39,9 @@ public abstract class BaseTest {
     public void setupSuite() {
         logger.info("Setting up test suite");
         
-        // Initialize ExtentReports
-        ExtentSparkReporter htmlReporter = new ExtentSparkReporter(REPORT_PATH);
-        extent = new ExtentReports();
-        extent.attachReporter(htmlReporter);
-        
-        // Add system info
-        extent.setSystemInfo("OS", System.getProperty("os.name"));
-        extent.setSystemInfo("Java Version", System.getProperty("java.version"));
-        
-        // Create screenshot directory
-        File screenshotDir = new File(SCREENSHOT_PATH);
-        if (!screenshotDir.exists()) {
-            screenshotDir.mkdirs();
-        }
+        // Start warming standby drivers while the suite initializes
+        String browser = ConfigManager.getInstance().getProperty("browser", "chrome");
+        DriverManager.warmUp(browser.isEmpty() ? "chrome" : browser);
     }
     
     /**
@@ -62,7 +49,7 @@ public abstract class BaseTest {
      */
     @BeforeMethod
     @Parameters({"browser"})
-    public void setup(Method method, @Optional String browser) {
+    public void setup(Method method, ITestResult result, @Optional String browser) {
         // If browser parameter is not provided via TestNG, get it from config
         if (browser == null || browser.isEmpty()) {
             browser = ConfigManager.getInstance().getProperty("browser", "chrome");
@@ -70,12 +57,42 @@ public abstract class BaseTest {
 
         logger.info("Starting test: {} using {}", method.getName(), browser);
         
-        // Initialize the WebDriver
-        driver = DriverManager.getDriver(browser);
+        // Initialize the WebDriver, reusing a pooled session when enabled
+        long start = System.nanoTime();
+        driver = DriverManager.isPoolEnabled()
+                ? DriverManager.leaseDriver(browser)
+                : DriverManager.getDriver(browser);
+        long timeToFirstCommand = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info("Time to first command for {}: {} ms", method.getName(), timeToFirstCommand);
         
-        // Create test for ExtentReports
-        test = extent.createTest(method.getName());
+        // Get the shared report entry for this test
+        test = ReportManager.forResult(result);
         test.info("Starting test with browser: " + browser);
+        test.info("Time to first command: " + timeToFirstCommand + " ms");
+    }
+    
+    /**
+     * Runs the test method, on a virtual thread when execution.virtual.threads is enabled
+     */
+    @Override
+    public void run(IHookCallBack callBack, ITestResult testResult) {
+        if (VirtualThreadExecution.isEnabled()) {
+            VirtualThreadExecution.run(testResult, () -> callBack.runTestMethod(testResult));
+        } else {
+            callBack.runTestMethod(testResult);
+        }
+    }
+    
+    /**
+     * Runs a configuration method, on a virtual thread when execution.virtual.threads is enabled
+     */
+    @Override
+    public void run(IConfigureCallBack callBack, ITestResult testResult) {
+        if (VirtualThreadExecution.isEnabled()) {
+            VirtualThreadExecution.run(testResult, () -> callBack.runConfigurationMethod(testResult));
+        } else {
+            callBack.runConfigurationMethod(testResult);
+        }
     }
     
     /**
@@ -86,22 +103,31 @@ public abstract class BaseTest {
         // Log test result
         if (result.getStatus() == ITestResult.FAILURE) {
             logger.error("Test failed: {}", result.getName(), result.getThrowable());
-            test.log(Status.FAIL, "Test Failed: " + result.getThrowable().getMessage());
+            test.result(Status.FAIL, "Test failed: " + result.getThrowable().getMessage());
             
-            // Capture screenshot on failure
-            captureScreenshot(result.getName());
+            // Capture screenshot on failure, once per result
+            if (driver != null) {
+                ScreenshotService.captureFailure(result, driver);
+            }
         } else if (result.getStatus() == ITestResult.SUCCESS) {
             logger.info("Test passed: {}", result.getName());
-            test.log(Status.PASS, "Test Passed");
+            test.result(Status.PASS, "Test passed");
         } else {
             logger.info("Test skipped: {}", result.getName());
-            test.log(Status.SKIP, "Test Skipped");
+            test.result(Status.SKIP, "Test skipped");
         }
         
-        // Quit the WebDriver
-        if (driver != null) {
-            driver.close();
-            driver.quit();
+        // Forget this session's page objects
+        PageRegistry.clear(driver);
+        
+        // Return a leased WebDriver to the pool, or quit it; decided by how setup obtained it,
+        // since driver.pool.enabled may have been reloaded since
+        if (driver != null && ExecutionContext.current().isLeased()) {
+            DriverManager.releaseDriver();
+            driver = null;
+        } else if (driver != null) {
+            DriverManager.quitDriver();
+            driver = null;
             logger.info("WebDriver closed");
         }
     }
@@ -113,37 +139,18 @@ public abstract class BaseTest {
     public void tearDownSuite() {
         logger.info("Tearing down test suite");
         
-        // Flush ExtentReports
-        if (extent != null) {
-            extent.flush();
-            logger.info("ExtentReports finalized at: " + REPORT_PATH);
-        }
-    }
-    
-    /**
-     * Captures a screenshot and adds it to the report
-     */
-    private void captureScreenshot(String testName) {
-        if (driver == null) {
-            logger.warn("WebDriver is null, cannot capture screenshot");
-            return;
-        }
+        // Quit any idle pooled and standby WebDriver sessions
+        DriverManager.shutdownPool();
+        DriverManager.shutdownStandby();
         
-        try {
-            // Generate screenshot name with timestamp
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String screenshotName = testName + "_" + timestamp + ".png";
-            String screenshotPath = SCREENSHOT_PATH + screenshotName;
-            
-            // Take screenshot
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            FileUtils.copyFile(screenshot, new File(screenshotPath));
-            
-            // Add screenshot to report
-            test.addScreenCaptureFromPath(screenshotPath);
-            logger.info("Screenshot captured: {}", screenshotPath);
-        } catch (Exception e) {
-            logger.error("Failed to capture screenshot", e);
-        }
+        // Summarize time spent on presence checks that found nothing
+        NegativeLookupStats.report();
+        
+        // Export WebDriver command timings
+        CommandTimings.export();
+        
+        // Finish pending screenshot writes, then write the final report
+        ScreenshotService.shutdown();
+        ReportManager.close();
     }
 }
\ No newline at end of file
@@ -0,0 +1,176 @@
+package com.test.automation.core;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.test.automation.utils.WaitUtils;
+
+/**
+ * Per-driver registry of page objects.
+ * Each page type is created once per driver session, and all pages of a session
+ * share one WebDriverWait, one Actions instance and the current page snapshot. Class metadata (the page
+ * constructor and whether PageFactory has anything to initialize) is computed
+ * once per class, so switching between pages costs a map lookup.
+ */
+public final class PageRegistry {
+    private static final Logger logger = LogManager.getLogger(PageRegistry.class);
+    private static final Map<WebDriver, Session> sessions = new ConcurrentHashMap<>();
+
+    private static final ClassValue<PageMetadata> metadata = new ClassValue<>() {
+        @Override
+        protected PageMetadata computeValue(Class<?> type) {
+            return new PageMetadata(type);
+        }
+    };
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private PageRegistry() {
+    }
+
+    /**
+     * Gets the page of the given type for the driver, creating it on first use
+     */
+    public static <P extends BasePage> P get(WebDriver driver, Class<P> type) {
+        Session session = session(driver);
+        BasePage page = session.pages.get(type);
+        if (page == null) {
+            // Created outside the map so page constructors may look up other pages
+            BasePage created = metadata.get(type).create(driver);
+            page = session.pages.putIfAbsent(type, created);
+            if (page == null) {
+                page = created;
+            }
+        }
+        return type.cast(page);
+    }
+
+    /**
+     * Forgets the pages and shared helpers of a driver, typically when its test ends
+     */
+    public static void clear(WebDriver driver) {
+        if (driver != null && sessions.remove(driver) != null) {
+            logger.debug("Cleared page registry for driver session");
+        }
+    }
+
+    /**
+     * Gets the wait shared by all pages of the driver
+     */
+    static WebDriverWait waitFor(WebDriver driver) {
+        return session(driver).wait;
+    }
+
+    /**
+     * Gets the actions shared by all pages of the driver
+     */
+    static Actions actionsFor(WebDriver driver) {
+        return session(driver).actions;
+    }
+
+    /**
+     * Gets the last snapshot taken for the driver, or null
+     */
+    static PageSnapshot snapshotFor(WebDriver driver) {
+        return session(driver).snapshot;
+    }
+
+    /**
+     * Replaces the snapshot of the driver; null invalidates it
+     */
+    static void setSnapshot(WebDriver driver, PageSnapshot snapshot) {
+        session(driver).snapshot = snapshot;
+    }
+
+    /**
+     * Checks whether a page class declares fields that PageFactory would initialize
+     */
+    static boolean needsPageFactory(Class<?> type) {
+        return metadata.get(type).annotated;
+    }
+
+    private static Session session(WebDriver driver) {
+        return sessions.computeIfAbsent(driver, Session::new);
+    }
+
+    /**
+     * Shared state of the pages of one driver session
+     */
+    private static final class Session {
+        private final WebDriverWait wait;
+        private final Actions actions;
+        private final Map<Class<?>, BasePage> pages = new ConcurrentHashMap<>();
+        private volatile PageSnapshot snapshot;
+
+        private Session(WebDriver driver) {
+            this.wait = new WebDriverWait(driver, WaitUtils.getDefaultTimeout());
+            this.actions = new Actions(driver);
+        }
+    }
+
+    /**
+     * Reflective details of a page class, computed once
+     */
+    private static final class PageMetadata {
+        private final Class<?> type;
+        private final Constructor<?> constructor;
+        private final boolean annotated;
+
+        private PageMetadata(Class<?> type) {
+            this.type = type;
+            this.constructor = findConstructor(type);
+            this.annotated = hasPageFactoryFields(type);
+        }
+
+        private BasePage create(WebDriver driver) {
+            if (constructor == null) {
+                throw new IllegalArgumentException(type.getName() + " has no public constructor taking a WebDriver");
+            }
+            try {
+                logger.debug("Creating {} for driver session", type.getSimpleName());
+                return (BasePage) constructor.newInstance(driver);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException("Failed to create page " + type.getName(), cause);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create page " + type.getName(), e);
+            }
+        }
+
+        private static Constructor<?> findConstructor(Class<?> type) {
+            try {
+                return type.getConstructor(WebDriver.class);
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        private static boolean hasPageFactoryFields(Class<?> type) {
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                            || field.isAnnotationPresent(FindAll.class)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.test.automation.core;
+
+import java.util.Map;
+
+import org.openqa.selenium.By;
+
+/**
+ * Point-in-time view of a few elements of the current page, captured in one call.
+ * Answers presence, text, display and selection queries for the first element
+ * matching each captured locator without further round-trips to the driver.
+ * Pages only use snapshots when {@code page.snapshot.enabled} is set.
+ * Snapshots are dropped by {@link BasePage} on any mutating action, or once they
+ * are older than {@code page.snapshot.ttl.ms}.
+ */
+public final class PageSnapshot {
+    private final String url;
+    private final Map<By, Entry> entries;
+    private final long capturedAt;
+
+    PageSnapshot(String url, Map<By, Entry> entries) {
+        this.url = url;
+        this.entries = Map.copyOf(entries);
+        this.capturedAt = System.nanoTime();
+    }
+
+    /**
+     * Gets the page URL at the time of the snapshot
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Checks whether any element matched the locator
+     */
+    public boolean isPresent(By locator) {
+        return entry(locator).count > 0;
+    }
+
+    /**
+     * Gets the number of elements that matched the locator
+     */
+    public int count(By locator) {
+        return entry(locator).count;
+    }
+
+    /**
+     * Checks whether the first matching element was displayed
+     */
+    public boolean isDisplayed(By locator) {
+        return entry(locator).displayed;
+    }
+
+    /**
+     * Gets the visible text of the first matching element, or an empty string
+     */
+    public String getText(By locator) {
+        return entry(locator).text;
+    }
+
+    /**
+     * Checks whether the first matching element was a selected option or checked input
+     */
+    public boolean isSelected(By locator) {
+        return entry(locator).selected;
+    }
+
+    /**
+     * Checks whether the snapshot captured all the given locators
+     */
+    boolean covers(By... locators) {
+        for (By locator : locators) {
+            if (!entries.containsKey(locator)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long ageNanos() {
+        return System.nanoTime() - capturedAt;
+    }
+
+    private Entry entry(By locator) {
+        Entry entry = entries.get(locator);
+        if (entry == null) {
+            throw new IllegalArgumentException("Locator not captured in snapshot: " + locator);
+        }
+        return entry;
+    }
+
+    /**
+     * Captured state of the first element matching one locator
+     */
+    static final class Entry {
+        static final Entry ABSENT = new Entry(0, false, "", false);
+
+        private final int count;
+        private final boolean displayed;
+        private final String text;
+        private final boolean selected;
+
+        Entry(int count, boolean displayed, String text, boolean selected) {
+            this.count = count;
+            this.displayed = displayed;
+            this.text = text;
+            this.selected = selected;
+        }
+    }
+}
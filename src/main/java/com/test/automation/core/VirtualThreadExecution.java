@@ -0,0 +1,85 @@
+package com.test.automation.core;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import com.test.automation.config.ConfigManager;
+import com.test.automation.utils.ExecutionContext;
+import com.test.automation.utils.VirtualThreads;
+
+/**
+ * Runs test methods and their configuration methods on virtual threads when
+ * {@code execution.virtual.threads} is enabled. Setup, body and teardown each run
+ * with the test's {@link ExecutionContext} passed along explicitly, so the driver
+ * created in setup is what {@code DriverManager.getCurrentDriver()} returns in the
+ * body and teardown, and the browser slot it holds is released in teardown.
+ */
+final class VirtualThreadExecution {
+    private static final Logger logger = LogManager.getLogger(VirtualThreadExecution.class);
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private VirtualThreadExecution() {
+    }
+
+    static boolean isEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("execution.virtual.threads", false);
+    }
+
+    /**
+     * Runs a test or configuration method on a new thread with the current context and waits for it.
+     * Failures of the method itself are recorded on the result by TestNG.
+     */
+    static void run(ITestResult testResult, Runnable method) {
+        Future<?> task = Executor.INSTANCE.submit(ExecutionContext.current().wrap(() -> {
+            Reporter.setCurrentTestResult(testResult);
+            try {
+                method.run();
+            } finally {
+                Reporter.setCurrentTestResult(null);
+            }
+        }));
+
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running " + testResult.getName(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Failed to run " + testResult.getName(), cause);
+        }
+    }
+
+    /**
+     * Created on first use, so suites without the mode never start it
+     */
+    private static final class Executor {
+        private static final ExecutorService INSTANCE = create();
+
+        private static ExecutorService create() {
+            if (!VirtualThreads.isSupported()) {
+                logger.warn("execution.virtual.threads needs Java 21 or later, using platform threads");
+            }
+            if (ConfigManager.getInstance().getIntProperty("execution.browser.slots", 0) <= 0) {
+                logger.warn("execution.virtual.threads is enabled without execution.browser.slots;"
+                        + " concurrent browsers are limited only by thread-count");
+            }
+            return VirtualThreads.newPerTaskExecutor("test");
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package com.test.automation.pages;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 
 import com.test.automation.core.BasePage;
 
@@ -82,10 +80,7 @@ public class HomePage extends BasePage {
      */
     public List<String> getNavigationSections() {
         logger.debug("Getting all navigation sections");
-        List<WebElement> links = driver.findElements(navigationLinks);
-        return links.stream()
-                .map(WebElement::getText)
-                .collect(Collectors.toList());
+        return getTexts(navigationLinks);
     }
     
     /**
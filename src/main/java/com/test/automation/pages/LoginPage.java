@@ -6,6 +6,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
 import com.test.automation.core.BasePage;
+import com.test.automation.core.PageSnapshot;
 
 /**
  * Page Object for the Login page.
@@ -35,7 +36,7 @@ public class LoginPage extends BasePage {
      */
     public LoginPage navigateTo(String url) {
         logger.info("Navigating to login page: {}", url);
-        driver.get(url);
+        navigate(url);
         return this;
     }
     
@@ -80,6 +81,9 @@ public class LoginPage extends BasePage {
      */
     public boolean isRememberMeSelected() {
         logger.debug("Checking if remember me is selected");
+        if (isSnapshotEnabled()) {
+            return snapshot(rememberMeCheckbox).isSelected(rememberMeCheckbox);
+        }
         return driver.findElement(rememberMeCheckbox).isSelected();
     }
     
@@ -110,10 +114,19 @@ public class LoginPage extends BasePage {
      */
     public String getErrorMessage() {
         logger.debug("Getting error message");
-        if (isElementPresent(errorMessage)) {
-            return getText(errorMessage);
+        if (isSnapshotEnabled()) {
+            PageSnapshot snapshot = snapshot(errorMessage);
+            if (!snapshot.isPresent(errorMessage)) {
+                return "";
+            }
+            if (snapshot.isDisplayed(errorMessage)) {
+                return snapshot.getText(errorMessage);
+            }
+            // Present but not rendered yet: wait for it as the plain lookup does
+        } else if (!isElementPresent(errorMessage)) {
+            return "";
         }
-        return "";
+        return getText(errorMessage);
     }
     
     /**
@@ -123,6 +136,10 @@ public class LoginPage extends BasePage {
         logger.debug("Checking if login was successful");
         // This is a simple implementation. In a real project, you might want to check
         // for specific elements on the dashboard or a URL change.
+        if (isSnapshotEnabled()) {
+            PageSnapshot snapshot = snapshot(errorMessage);
+            return !snapshot.isPresent(errorMessage) && !snapshot.getUrl().contains("login");
+        }
         return !isElementPresent(errorMessage) && !driver.getCurrentUrl().contains("login");
     }
 }
\ No newline at end of file
@@ -1,20 +1,18 @@
 package com.test.automation.utils;
 
-import java.io.File;
-import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
 import org.openqa.selenium.Cookie;
 import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
@@ -23,6 +21,7 @@ import org.openqa.selenium.WebElement;
  */
 public class BrowserUtils {
     private static final Logger logger = LogManager.getLogger(BrowserUtils.class);
+    private static final Map<WebDriver, ImplicitWait> implicitWaits = Collections.synchronizedMap(new WeakHashMap<>());
     
     /**
      * Private constructor to prevent instantiation
@@ -31,31 +30,66 @@ public class BrowserUtils {
     }
     
     /**
-     * Takes a screenshot and returns the file path
+     * Takes a screenshot and returns the file path.
+     * The file is written in the background, so it may appear shortly after this returns.
      */
     public static String takeScreenshot(WebDriver driver, String name) {
         logger.info("Taking screenshot: {}", name);
-        
-        try {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = name + "_" + timestamp + ".png";
-            String filePath = "test-output/screenshots/" + fileName;
-            
-            // Create directory if it doesn't exist
-            File directory = new File("test-output/screenshots");
-            if (!directory.exists()) {
-                directory.mkdirs();
+        return ScreenshotService.capture(driver, name);
+    }
+    
+    /**
+     * Checks whether any element matches the locator, without waiting.
+     * Resolves the locator with a script where possible, otherwise with
+     * {@link #findElementsWithoutWait}. Every check is counted in {@link NegativeLookupStats}.
+     */
+    public static boolean isElementPresent(WebDriver driver, By locator) {
+        long start = System.nanoTime();
+        boolean found;
+        if (driver instanceof JavascriptExecutor && LocatorScripts.supports(locator)) {
+            Object[] arguments = LocatorScripts.arguments(locator);
+            Object count = ((JavascriptExecutor) driver).executeScript(
+                    "return (" + LocatorScripts.FIND + ")(arguments[0], arguments[1]).length;",
+                    arguments[0], arguments[1]);
+            found = count instanceof Number && ((Number) count).longValue() > 0;
+        } else {
+            found = !findElementsWithoutWait(driver, locator).isEmpty();
+        }
+        NegativeLookupStats.record(found, System.nanoTime() - start);
+        return found;
+    }
+    
+    /**
+     * Sets the implicit wait of the driver and remembers it, so lookups without wait
+     * can restore it without reading it back first
+     */
+    public static void setImplicitWait(WebDriver driver, Duration timeout) {
+        ImplicitWait implicitWait = implicitWaits.computeIfAbsent(driver, d -> new ImplicitWait());
+        synchronized (implicitWait) {
+            driver.manage().timeouts().implicitlyWait(timeout);
+            implicitWait.timeout = timeout;
+        }
+    }
+    
+    /**
+     * Finds elements with the implicit wait temporarily set to zero, restoring it afterwards.
+     * The implicit wait to restore is read from the driver only the first time, unless it was
+     * set through {@link #setImplicitWait}. Lookups on the same driver are serialized so
+     * concurrent callers never restore each other's zero timeout.
+     */
+    public static List<WebElement> findElementsWithoutWait(WebDriver driver, By locator) {
+        ImplicitWait implicitWait = implicitWaits.computeIfAbsent(driver, d -> new ImplicitWait());
+        synchronized (implicitWait) {
+            WebDriver.Timeouts timeouts = driver.manage().timeouts();
+            if (implicitWait.timeout == null) {
+                implicitWait.timeout = timeouts.getImplicitWaitTimeout();
+            }
+            timeouts.implicitlyWait(Duration.ZERO);
+            try {
+                return driver.findElements(locator);
+            } finally {
+                timeouts.implicitlyWait(implicitWait.timeout);
             }
-            
-            // Take screenshot
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            FileUtils.copyFile(screenshot, new File(filePath));
-            
-            logger.info("Screenshot saved to: " + filePath);
-            return filePath;
-        } catch (IOException e) {
-            logger.error("Failed to take screenshot", e);
-            return null;
         }
     }
     
@@ -209,4 +243,11 @@ public class BrowserUtils {
         logger.info("Uploading file: {}", filePath);
         element.sendKeys(filePath);
     }
+    
+    /**
+     * Configured implicit wait of one driver; also the lock for its lookups without wait
+     */
+    private static final class ImplicitWait {
+        private Duration timeout;
+    }
 }
\ No newline at end of file
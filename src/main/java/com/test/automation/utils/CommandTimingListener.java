@@ -0,0 +1,63 @@
+package com.test.automation.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * Times every call made through a decorated driver and its elements,
+ * recording it in {@link CommandTimings}. Calls that only return local helper
+ * objects, such as {@code manage()} or {@code switchTo()}, are not recorded.
+ */
+class CommandTimingListener implements WebDriverListener {
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            "manage", "switchTo", "navigate", "timeouts", "window", "logs",
+            "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals");
+
+    // Calls can nest, e.g. a WebElement call made from within a decorated driver call
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_CALLS.contains(method.getName())) {
+            starts.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method, args, false);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method, args, true);
+    }
+
+    private void finish(Method method, Object[] args, boolean failed) {
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        Long start = starts.get().poll();
+        if (start == null) {
+            return;
+        }
+        CommandTimings.record(method.getName(), locatorOf(args), System.nanoTime() - start, failed);
+    }
+
+    private static String locatorOf(Object[] args) {
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof By) {
+                    return arg.toString();
+                }
+            }
+        }
+        return null;
+    }
+}
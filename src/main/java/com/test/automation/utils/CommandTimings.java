@@ -0,0 +1,181 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+/**
+ * Suite-wide latency histograms of WebDriver commands, per command and per locator.
+ * Recording is lock-free: each histogram is a fixed set of power-of-two microsecond
+ * buckets held in {@link LongAdder}s, so concurrent tests never contend on a lock.
+ */
+public final class CommandTimings {
+    private static final Logger logger = LogManager.getLogger(CommandTimings.class);
+    public static final String JSON_PATH = "test-output/command-timings.json";
+    private static final int REPORTED_LOCATORS = 20;
+
+    private static final Map<String, Histogram> commands = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> locators = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private CommandTimings() {
+    }
+
+    /**
+     * Records one command, and the locator it used if any
+     */
+    static void record(String command, String locator, long elapsedNanos, boolean failed) {
+        commands.computeIfAbsent(command, k -> new Histogram()).record(elapsedNanos, failed);
+        if (locator != null) {
+            locators.computeIfAbsent(command + " " + locator, k -> new Histogram()).record(elapsedNanos, failed);
+        }
+    }
+
+    /**
+     * Writes the histograms as JSON and adds a summary section to the report
+     */
+    public static void export() {
+        if (commands.isEmpty()) {
+            return;
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("commands", toJson(commands));
+        json.put("locators", toJson(locators));
+        try {
+            Path path = Paths.get(JSON_PATH);
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Files.write(path, new Json().toJson(json).getBytes(StandardCharsets.UTF_8));
+            logger.info("WebDriver command timings written to: {}", path);
+        } catch (IOException e) {
+            logger.warn("Could not write WebDriver command timings", e);
+        }
+
+        ReportTest section = ReportManager.createTest("WebDriver command timings");
+        section.log(Status.INFO, MarkupHelper.createTable(toTable("Command", commands, Integer.MAX_VALUE)));
+        section.log(Status.INFO, MarkupHelper.createTable(toTable("Command and locator", locators, REPORTED_LOCATORS)));
+    }
+
+    private static Map<String, Object> toJson(Map<String, Histogram> histograms) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        sorted(histograms, Integer.MAX_VALUE).forEach(entry -> json.put(entry.getKey(), entry.getValue().toJson()));
+        return json;
+    }
+
+    private static String[][] toTable(String label, Map<String, Histogram> histograms, int limit) {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[] {label, "Count", "Errors", "Total ms", "Mean ms", "p50 ms", "p95 ms", "p99 ms", "Max ms"});
+        for (Map.Entry<String, Histogram> entry : sorted(histograms, limit)) {
+            Histogram h = entry.getValue();
+            rows.add(new String[] {entry.getKey(), String.valueOf(h.count.sum()), String.valueOf(h.errors.sum()),
+                    format(h.totalNanos.sum()), format(h.meanNanos()), format(h.percentileNanos(0.50)),
+                    format(h.percentileNanos(0.95)), format(h.percentileNanos(0.99)), format(h.maxNanos.get())});
+        }
+        return rows.toArray(new String[0][]);
+    }
+
+    private static List<Map.Entry<String, Histogram>> sorted(Map<String, Histogram> histograms, int limit) {
+        List<Map.Entry<String, Histogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, Histogram> e) -> e.getValue().totalNanos.sum()).reversed());
+        return entries.subList(0, Math.min(limit, entries.size()));
+    }
+
+    private static String format(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Log2 histogram of microsecond latencies
+     */
+    static final class Histogram {
+        private static final int BUCKETS = 40;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        Histogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos, boolean failed) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+            buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros))].increment();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        long meanNanos() {
+            long n = count.sum();
+            return n == 0 ? 0 : totalNanos.sum() / n;
+        }
+
+        /**
+         * Upper bound of the bucket holding the given quantile, capped at the observed maximum
+         */
+        long percentileNanos(double quantile) {
+            long n = count.sum();
+            if (n == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * n);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i].sum();
+                if (seen >= rank) {
+                    long upperMicros = i == 0 ? 0 : (1L << i) - 1;
+                    return Math.min(TimeUnit.MICROSECONDS.toNanos(upperMicros), maxNanos.get());
+                }
+            }
+            return maxNanos.get();
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("count", count.sum());
+            json.put("errors", errors.sum());
+            json.put("totalMillis", totalNanos.sum() / 1_000_000.0);
+            json.put("meanMillis", meanNanos() / 1_000_000.0);
+            json.put("p50Millis", percentileNanos(0.50) / 1_000_000.0);
+            json.put("p95Millis", percentileNanos(0.95) / 1_000_000.0);
+            json.put("p99Millis", percentileNanos(0.99) / 1_000_000.0);
+            json.put("maxMillis", maxNanos.get() / 1_000_000.0);
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKETS; i++) {
+                long bucket = buckets[i].sum();
+                if (bucket > 0) {
+                    histogram.put("<=" + (i == 0 ? 0 : (1L << i) - 1) + "us", bucket);
+                }
+            }
+            json.put("histogram", histogram);
+            return json;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only, memory-mapped view of a sheet compiled by {@link DataCache}.
+ * <p>
+ * File layout: a header ({@code magic, rows, columns}) followed by one
+ * {@code (indexStart, blobStart, blobLength)} triple per column, then each
+ * column's index and blob. A column index holds one {@code (tag, offset)}
+ * entry per row pointing into the column blob, so any cell can be read
+ * directly without decoding the rest of the sheet.
+ */
+final class CompiledSheet implements Iterable<Object[]> {
+    static final int MAGIC = 0x54444331;
+    static final int HEADER_SIZE = 12;
+    static final int COLUMN_HEADER_SIZE = 24;
+    static final int INDEX_ENTRY_SIZE = 5;
+
+    static final byte EMPTY = 0;
+    static final byte STRING = 1;
+    static final byte NUMBER = 2;
+    static final byte BOOLEAN = 3;
+
+    private final ByteBuffer buffer;
+    private final int rows;
+    private final int columns;
+    private final long[] indexStart;
+    private final long[] blobStart;
+    private final long[] blobLength;
+
+    private CompiledSheet(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a compiled sheet");
+        }
+        this.rows = buffer.getInt(4);
+        this.columns = buffer.getInt(8);
+        this.indexStart = new long[columns];
+        this.blobStart = new long[columns];
+        this.blobLength = new long[columns];
+        for (int c = 0; c < columns; c++) {
+            int at = HEADER_SIZE + c * COLUMN_HEADER_SIZE;
+            indexStart[c] = buffer.getLong(at);
+            blobStart[c] = buffer.getLong(at + 8);
+            blobLength[c] = buffer.getLong(at + 16);
+        }
+    }
+
+    /**
+     * Memory-maps a compiled sheet file
+     */
+    static CompiledSheet open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Compiled sheet too large to map: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CompiledSheet(buffer);
+        }
+    }
+
+    int rowCount() {
+        return rows;
+    }
+
+    int columnCount() {
+        return columns;
+    }
+
+    /**
+     * Decodes a single cell
+     */
+    Object get(int row, int column) {
+        int entry = (int) (indexStart[column] + (long) row * INDEX_ENTRY_SIZE);
+        byte tag = buffer.get(entry);
+        int offset = buffer.getInt(entry + 1);
+        int at = (int) (blobStart[column] + offset);
+
+        switch (tag) {
+            case STRING:
+                int end = row + 1 < rows
+                        ? buffer.getInt(entry + INDEX_ENTRY_SIZE + 1)
+                        : (int) blobLength[column];
+                byte[] bytes = new byte[end - offset];
+                buffer.get(at, bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            case NUMBER:
+                return buffer.getDouble(at);
+            case BOOLEAN:
+                return buffer.get(at) != 0;
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Decodes one row
+     */
+    Object[] row(int row) {
+        Object[] values = new Object[columns];
+        for (int c = 0; c < columns; c++) {
+            values[c] = get(row, c);
+        }
+        return values;
+    }
+
+    /**
+     * Decodes every row, in the same shape as {@link DataUtils#getExcelData}
+     */
+    Object[][] toArray() {
+        Object[][] data = new Object[rows][];
+        for (int r = 0; r < rows; r++) {
+            data[r] = row(r);
+        }
+        return data;
+    }
+
+    /**
+     * Decodes rows lazily, one per call to {@code next()}
+     */
+    @Override
+    public Iterator<Object[]> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < rows;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return row(next++);
+            }
+        };
+    }
+}
@@ -0,0 +1,182 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RFC 4180 record parser over a byte range of a file.
+ * Reads through positional channel reads into a reusable buffer, so several
+ * parsers can work on different ranges of the same channel concurrently.
+ * Quoted fields may contain delimiters, doubled quotes and line breaks;
+ * CRLF and LF line endings are both accepted and blank lines are skipped.
+ */
+final class CsvParser {
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int END = -1;
+    private static final byte QUOTE = '"';
+    private static final byte DELIMITER = ',';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final FileChannel channel;
+    private final long end;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final List<String> fields = new ArrayList<>();
+    private byte[] scratch = new byte[256];
+    private long position;
+
+    CsvParser(FileChannel channel, long start, long end) {
+        this.channel = channel;
+        this.position = start;
+        this.end = end;
+        buffer.limit(0);
+    }
+
+    /**
+     * Gets the file offset of the next unread byte
+     */
+    long position() {
+        return position - buffer.remaining();
+    }
+
+    /**
+     * Skips a UTF-8 byte order mark at the current position
+     */
+    void skipByteOrderMark() {
+        if (peek() == 0xEF) {
+            int mark = buffer.position();
+            if (read() == 0xEF && read() == 0xBB && read() == 0xBF) {
+                return;
+            }
+            buffer.position(mark);
+        }
+    }
+
+    /**
+     * Parses the next record, or returns null at the end of the range
+     */
+    String[] next() {
+        while (peek() != END) {
+            fields.clear();
+            int terminator;
+            do {
+                terminator = peek() == QUOTE ? readQuotedField() : readPlainField();
+            } while (terminator == DELIMITER);
+
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            return fields.toArray(new String[0]);
+        }
+        return null;
+    }
+
+    private int readPlainField() {
+        int length = 0;
+        int b;
+        while (true) {
+            b = read();
+            if (b == END || b == DELIMITER || b == LF) {
+                break;
+            }
+            if (b == CR) {
+                if (peek() == LF) {
+                    read();
+                }
+                b = LF;
+                break;
+            }
+            length = append(length, b);
+        }
+        fields.add(new String(scratch, 0, length, StandardCharsets.UTF_8));
+        return b;
+    }
+
+    private int readQuotedField() {
+        read();
+        int length = 0;
+        int b;
+        while (true) {
+            b = read();
+            if (b == END) {
+                break;
+            }
+            if (b == QUOTE) {
+                if (peek() == QUOTE) {
+                    read();
+                } else {
+                    break;
+                }
+            }
+            length = append(length, b);
+        }
+
+        // Anything between the closing quote and the next delimiter is kept as-is
+        while (b != END) {
+            b = read();
+            if (b == END || b == DELIMITER || b == LF) {
+                break;
+            }
+            if (b == CR) {
+                if (peek() == LF) {
+                    read();
+                }
+                b = LF;
+                break;
+            }
+            length = append(length, b);
+        }
+        fields.add(new String(scratch, 0, length, StandardCharsets.UTF_8));
+        return b;
+    }
+
+    private int append(int length, int b) {
+        if (length == scratch.length) {
+            scratch = Arrays.copyOf(scratch, length * 2);
+        }
+        scratch[length] = (byte) b;
+        return length + 1;
+    }
+
+    private int peek() {
+        if (!buffer.hasRemaining() && !fill()) {
+            return END;
+        }
+        return buffer.get(buffer.position()) & 0xFF;
+    }
+
+    private int read() {
+        if (!buffer.hasRemaining() && !fill()) {
+            return END;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    private boolean fill() {
+        if (position >= end) {
+            return false;
+        }
+        buffer.clear();
+        buffer.limit((int) Math.min(buffer.capacity(), end - position));
+        try {
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read < 0) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read CSV data", e);
+        }
+        buffer.flip();
+        position += buffer.limit();
+        return buffer.hasRemaining();
+    }
+}
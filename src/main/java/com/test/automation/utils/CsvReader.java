@@ -0,0 +1,206 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * High-throughput reader for RFC 4180 CSV files with a header row.
+ * Records are parsed straight from a file channel and share one interned
+ * {@link CsvSchema}. {@link #iterator()} reads lazily from the start of the
+ * file; {@link #stream()} splits the file into record-aligned chunks that can be
+ * parsed in parallel. The reader owns the channel and must be closed.
+ */
+public final class CsvReader implements Iterable<CsvRecord>, AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(CsvReader.class);
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long size;
+    private final CsvSchema schema;
+    private final long dataStart;
+
+    private CsvReader(Path path, FileChannel channel) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.size = channel.size();
+
+        CsvParser headerParser = new CsvParser(channel, 0, size);
+        headerParser.skipByteOrderMark();
+        String[] header = headerParser.next();
+        this.schema = new CsvSchema(header == null ? new String[0] : header);
+        this.dataStart = headerParser.position();
+    }
+
+    /**
+     * Opens a CSV file and reads its header
+     */
+    public static CsvReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new CsvReader(path, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the header shared by all records
+     */
+    public CsvSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Iterates the records sequentially, parsing each only when requested
+     */
+    @Override
+    public Iterator<CsvRecord> iterator() {
+        CsvParser parser = new CsvParser(channel, dataStart, size);
+        return new Iterator<>() {
+            private String[] next;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null && !done) {
+                    next = parser.next();
+                    done = next == null;
+                }
+                return next != null;
+            }
+
+            @Override
+            public CsvRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                CsvRecord record = new CsvRecord(schema, next);
+                next = null;
+                return record;
+            }
+        };
+    }
+
+    /**
+     * Streams the records in file order. Traversed sequentially, the stream reads the
+     * file once; when it is split, e.g. by {@code parallel()}, record-aligned chunks are
+     * cut off on demand and parsed concurrently.
+     */
+    public Stream<CsvRecord> stream() {
+        long chunkSize = Math.max(MIN_CHUNK_SIZE, size / (Runtime.getRuntime().availableProcessors() * 4L));
+        return StreamSupport.stream(new ChunkSpliterator(dataStart, size, chunkSize), false);
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close CSV file: {}", path, e);
+        }
+    }
+
+    /**
+     * Finds the first record boundary at or after target with a quote-aware scan from
+     * from, which must itself be a record boundary. Returns to if there is none before it.
+     */
+    private long recordBoundary(long from, long target, long to) {
+        ByteBuffer buffer = ByteBuffer.allocate(CsvParser.BUFFER_SIZE);
+        boolean quoted = false;
+        long offset = from;
+        try {
+            while (offset < to) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), to - offset));
+                int read = channel.read(buffer, offset);
+                if (read <= 0) {
+                    break;
+                }
+                byte[] bytes = buffer.array();
+                for (int i = 0; i < read; i++) {
+                    byte b = bytes[i];
+                    if (b == '"') {
+                        quoted = !quoted;
+                    } else if (b == '\n' && !quoted && offset + i + 1 >= target) {
+                        return offset + i + 1;
+                    }
+                }
+                offset += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan CSV file " + path, e);
+        }
+        return to;
+    }
+
+    /**
+     * Parses a byte range of records. Splitting cuts a record-aligned chunk off the
+     * front, so only split streams pay for the boundary scan.
+     */
+    private final class ChunkSpliterator implements Spliterator<CsvRecord> {
+        private final long end;
+        private final long chunkSize;
+        private long start;
+        private CsvParser parser;
+
+        private ChunkSpliterator(long start, long end, long chunkSize) {
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CsvRecord> action) {
+            if (parser == null) {
+                parser = new CsvParser(channel, start, end);
+            }
+            String[] values = parser.next();
+            if (values == null) {
+                return false;
+            }
+            action.accept(new CsvRecord(schema, values));
+            return true;
+        }
+
+        @Override
+        public Spliterator<CsvRecord> trySplit() {
+            // Once traversal has started the remainder stays sequential
+            if (parser != null || end - start < 2 * chunkSize) {
+                return null;
+            }
+            long cut = recordBoundary(start, start + chunkSize, end);
+            if (cut >= end) {
+                return null;
+            }
+            ChunkSpliterator prefix = new ChunkSpliterator(start, cut, chunkSize);
+            start = cut;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            long from = parser != null ? parser.position() : start;
+            return Math.max(0, end - from);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
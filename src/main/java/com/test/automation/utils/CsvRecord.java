@@ -0,0 +1,96 @@
+package com.test.automation.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * One CSV row, exposed as a read-only map view over the shared {@link CsvSchema}.
+ * Lookups go through the schema's index, so no per-row map is ever built.
+ * Columns missing from a short row read as empty strings.
+ */
+public final class CsvRecord extends AbstractMap<String, String> {
+    private final CsvSchema schema;
+    private final String[] values;
+
+    CsvRecord(CsvSchema schema, String[] values) {
+        this.schema = schema;
+        this.values = values;
+    }
+
+    /**
+     * Gets a value by column position
+     */
+    public String get(int position) {
+        return position < values.length ? values[position] : "";
+    }
+
+    @Override
+    public String get(Object column) {
+        int position = schema.indexOf(column);
+        return position < 0 ? null : get(position);
+    }
+
+    @Override
+    public boolean containsKey(Object column) {
+        return schema.indexOf(column) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return schema.size();
+    }
+
+    /**
+     * Gets the schema shared by all records of the file
+     */
+    public CsvSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Gets the values in column order, padded to the schema width, as TestNG data provider parameters
+     */
+    public Object[] toArray() {
+        Object[] row = Arrays.copyOf(values, schema.size(), Object[].class);
+        for (int i = values.length; i < row.length; i++) {
+            row[i] = "";
+        }
+        return row;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int position;
+
+                    @Override
+                    public boolean hasNext() {
+                        return position < schema.size();
+                    }
+
+                    @Override
+                    public Map.Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int current = position++;
+                        return new SimpleImmutableEntry<>(schema.column(current), get(current));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return schema.size();
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.test.automation.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Header of a CSV file, shared by every record read from it.
+ * Column names are interned once and looked up through a single index map,
+ * so records only carry their values.
+ */
+public final class CsvSchema {
+    private final String[] columns;
+    private final Map<String, Integer> index;
+
+    CsvSchema(String[] columns) {
+        this.columns = new String[columns.length];
+        Map<String, Integer> positions = new HashMap<>(columns.length * 2);
+        for (int i = 0; i < columns.length; i++) {
+            this.columns[i] = columns[i].trim().intern();
+            positions.putIfAbsent(this.columns[i], i);
+        }
+        this.index = Collections.unmodifiableMap(positions);
+    }
+
+    /**
+     * Gets the position of a column, or -1 if the file has no such column
+     */
+    public int indexOf(Object column) {
+        Integer position = index.get(column);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Gets the column name at a position
+     */
+    public String column(int position) {
+        return columns[position];
+    }
+
+    /**
+     * Gets the number of columns
+     */
+    public int size() {
+        return columns.length;
+    }
+
+    /**
+     * Gets the column names in file order
+     */
+    public List<String> columns() {
+        return Collections.unmodifiableList(Arrays.asList(columns));
+    }
+}
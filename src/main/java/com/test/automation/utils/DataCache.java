@@ -0,0 +1,458 @@
+package com.test.automation.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Cache of test-data sheets compiled into a compact binary columnar format.
+ * Each compiled file is keyed by the source file's content hash, the sheet name
+ * and the {@link Reader} that produced the rows, so editing the source
+ * automatically selects a new file; stale files for
+ * the same source and sheet are removed when the new one is written. Files are
+ * published with an atomic move, so parallel forks can share the cache safely.
+ * Sheets that would compile to more than 2 GB are not cached and are read
+ * directly from the source instead.
+ */
+final class DataCache {
+    private static final Logger logger = LogManager.getLogger(DataCache.class);
+    private static final String EXTENSION = ".tdc";
+    private static final Map<String, String> hashes = new ConcurrentHashMap<>();
+    private static final Cleaner cleaner = Cleaner.create();
+    /** Compiled files are mapped as one buffer with int offsets */
+    private static final long MAX_FILE_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * Reader a sheet was compiled from. The full workbook load and the streaming
+     * reader treat blank rows and formulas differently, so each gets its own file.
+     */
+    enum Reader {
+        WORKBOOK, STREAMING
+    }
+
+    private DataCache() {
+    }
+
+    /**
+     * Checks whether compiled data caching is enabled
+     */
+    static boolean isEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("data.cache.enabled", true);
+    }
+
+    /**
+     * Loads the compiled sheet for the current content of the source, or returns null if none exists
+     */
+    static CompiledSheet load(String sourcePath, String sheetName, Reader reader) {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            Path file = cacheFile(Paths.get(sourcePath), sheetName, reader);
+            if (!Files.exists(file)) {
+                return null;
+            }
+            CompiledSheet sheet = CompiledSheet.open(file);
+            logger.info("Using compiled test data: {}", file);
+            return sheet;
+        } catch (IOException e) {
+            logger.warn("Could not read compiled test data for {}, sheet {}", sourcePath, sheetName, e);
+            return null;
+        }
+    }
+
+    /**
+     * Compiles sheet data fully loaded from the workbook into the cache
+     */
+    static void store(String sourcePath, String sheetName, Object[][] data) {
+        if (!isEnabled() || data == null) {
+            return;
+        }
+        int columns = data.length == 0 ? 0 : data[0].length;
+        try (Compiler compiler = compiler(sourcePath, sheetName, Reader.WORKBOOK, columns)) {
+            for (Object[] row : data) {
+                compiler.add(row);
+            }
+            compiler.publish();
+        } catch (IOException e) {
+            logger.warn("Could not compile test data for {}, sheet {}", sourcePath, sheetName, e);
+        }
+    }
+
+    /**
+     * Wraps a streaming row iterator so the rows are compiled into the cache as they are consumed.
+     * The compiled file is published only if the iterator is read to the end. Spill files are
+     * removed when the returned iterator is closed or, if the caller stops early without
+     * closing it, once it becomes unreachable.
+     */
+    static Iterator<Object[]> compileWhileReading(String sourcePath, String sheetName, int columns,
+                                                  Iterator<Object[]> rows) {
+        if (!isEnabled()) {
+            return rows;
+        }
+        Compiler compiler;
+        try {
+            compiler = compiler(sourcePath, sheetName, Reader.STREAMING, columns);
+        } catch (IOException e) {
+            logger.warn("Could not start compiling test data for {}, sheet {}", sourcePath, sheetName, e);
+            return rows;
+        }
+        return new CompilingIterator(sourcePath, sheetName, rows, compiler);
+    }
+
+    private static Compiler compiler(String sourcePath, String sheetName, Reader reader, int columns)
+            throws IOException {
+        Path file = cacheFile(Paths.get(sourcePath), sheetName, reader);
+        Files.createDirectories(file.getParent());
+        return new Compiler(file, columns);
+    }
+
+    private static Path cacheFile(Path source, String sheetName, Reader reader) throws IOException {
+        String dir = ConfigManager.getInstance().getProperty("data.cache.dir", "target/data-cache");
+        return Paths.get(dir).resolve(filePrefix(source, sheetName, reader) + contentHash(source) + EXTENSION);
+    }
+
+    private static String filePrefix(Path source, String sheetName, Reader reader) {
+        return (source.getFileName() + "-" + sheetName).replaceAll("[^A-Za-z0-9._-]", "_")
+                + "-" + reader.name().toLowerCase(Locale.ROOT) + "-";
+    }
+
+    /**
+     * Passes rows through while compiling them, closing the compiler when the rows run
+     * out, when closed, or through the cleaner when abandoned part way
+     */
+    private static final class CompilingIterator implements Iterator<Object[]>, AutoCloseable {
+        private final String sourcePath;
+        private final String sheetName;
+        private final Iterator<Object[]> rows;
+        private final Compiler compiler;
+        private final Cleaner.Cleanable cleanable;
+        private boolean active = true;
+
+        private CompilingIterator(String sourcePath, String sheetName, Iterator<Object[]> rows, Compiler compiler) {
+            this.sourcePath = sourcePath;
+            this.sheetName = sheetName;
+            this.rows = rows;
+            this.compiler = compiler;
+            // The action must not reference this iterator, or it would never become unreachable
+            this.cleanable = cleaner.register(this, () -> {
+                compiler.close();
+                if (rows instanceof AutoCloseable) {
+                    closeQuietly((AutoCloseable) rows);
+                }
+            });
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = rows.hasNext();
+            if (!hasNext && active) {
+                active = false;
+                try {
+                    compiler.publish();
+                } catch (IOException e) {
+                    logger.warn("Could not compile test data for {}, sheet {}", sourcePath, sheetName, e);
+                } finally {
+                    cleanable.clean();
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] row = rows.next();
+            if (active) {
+                try {
+                    compiler.add(row);
+                } catch (IOException e) {
+                    logger.warn("Stopped compiling test data for {}, sheet {}", sourcePath, sheetName, e);
+                    active = false;
+                    compiler.close();
+                }
+            }
+            return row;
+        }
+
+        /**
+         * Stops compiling and removes the spill files, closing the underlying rows too
+         */
+        @Override
+        public void close() {
+            active = false;
+            cleanable.clean();
+        }
+
+        private static void closeQuietly(AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.debug("Failed to close test data rows", e);
+            }
+        }
+    }
+
+    /**
+     * Hashes the source content, memoized per JVM by path, size and modification time
+     */
+    private static String contentHash(Path source) throws IOException {
+        String identity = source.toAbsolutePath() + "|" + Files.size(source) + "|" + Files.getLastModifiedTime(source);
+        String cached = hashes.get(identity);
+        if (cached != null) {
+            return cached;
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(source)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        String hash = hex.substring(0, 32);
+        hashes.put(identity, hash);
+        return hash;
+    }
+
+    /**
+     * Streams rows into per-column spill files, then assembles the compiled file.
+     * Only the spill buffers are held in memory, whatever the number of rows.
+     */
+    static final class Compiler implements AutoCloseable {
+        private final Path target;
+        private final int columns;
+        private final Path[] indexFiles;
+        private final Path[] blobFiles;
+        private final DataOutputStream[] indexes;
+        private final DataOutputStream[] blobs;
+        private final int[] blobSizes;
+        private int rows;
+        private boolean closed;
+
+        private Compiler(Path target, int columns) throws IOException {
+            this.target = target;
+            this.columns = columns;
+            this.indexFiles = new Path[columns];
+            this.blobFiles = new Path[columns];
+            this.indexes = new DataOutputStream[columns];
+            this.blobs = new DataOutputStream[columns];
+            this.blobSizes = new int[columns];
+            try {
+                for (int c = 0; c < columns; c++) {
+                    indexFiles[c] = spillFile("index");
+                    blobFiles[c] = spillFile("blob");
+                    indexes[c] = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFiles[c])));
+                    blobs[c] = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(blobFiles[c])));
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * Appends one row; missing trailing cells are stored as empty
+         *
+         * @throws IOException if a column outgrows the int offsets of the compiled format,
+         *         in which case the caller keeps using the uncached rows
+         */
+        void add(Object[] row) throws IOException {
+            for (int c = 0; c < columns; c++) {
+                Object value = c < row.length ? row[c] : null;
+                indexes[c].writeByte(tagOf(value));
+                indexes[c].writeInt(blobSizes[c]);
+                long blobSize = (long) blobSizes[c] + write(blobs[c], value);
+                if (blobSize > MAX_FILE_SIZE) {
+                    throw new IOException("Column " + c + " of " + target.getFileName()
+                            + " exceeds the 2 GB limit of compiled test data");
+                }
+                blobSizes[c] = (int) blobSize;
+            }
+            rows++;
+        }
+
+        /**
+         * Writes the compiled file and atomically moves it into place
+         */
+        void publish() throws IOException {
+            for (int c = 0; c < columns; c++) {
+                indexes[c].close();
+                blobs[c].close();
+            }
+
+            Path temp = Files.createTempFile(target.getParent(), "sheet", ".tmp");
+            try {
+                writeCompiled(temp);
+            } catch (IOException | RuntimeException e) {
+                deleteQuietly(temp);
+                throw e;
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                logger.info("Compiled {} rows of test data to {}", rows, target);
+            } catch (FileAlreadyExistsException e) {
+                // Another fork compiled the same content first
+                Files.deleteIfExists(temp);
+            }
+            removeStale();
+        }
+
+        private void writeCompiled(Path temp) throws IOException {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(CompiledSheet.HEADER_SIZE
+                        + columns * CompiledSheet.COLUMN_HEADER_SIZE);
+                header.putInt(CompiledSheet.MAGIC).putInt(rows).putInt(columns);
+                long offset = header.capacity();
+                for (int c = 0; c < columns; c++) {
+                    long indexSize = (long) rows * CompiledSheet.INDEX_ENTRY_SIZE;
+                    header.putLong(offset).putLong(offset + indexSize).putLong(blobSizes[c]);
+                    offset += indexSize + blobSizes[c];
+                }
+                if (offset > MAX_FILE_SIZE) {
+                    throw new IOException(target.getFileName() + " would be " + offset
+                            + " bytes, over the 2 GB limit of compiled test data");
+                }
+                header.flip();
+                while (header.hasRemaining()) {
+                    out.write(header);
+                }
+                for (int c = 0; c < columns; c++) {
+                    append(out, indexFiles[c]);
+                    append(out, blobFiles[c]);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (int c = 0; c < columns; c++) {
+                closeQuietly(indexes[c]);
+                closeQuietly(blobs[c]);
+                deleteQuietly(indexFiles[c]);
+                deleteQuietly(blobFiles[c]);
+            }
+        }
+
+        /**
+         * Creates a spill file, also deleted at exit in case the compiler is never closed
+         */
+        private Path spillFile(String prefix) throws IOException {
+            Path file = Files.createTempFile(target.getParent(), prefix, ".tmp");
+            file.toFile().deleteOnExit();
+            return file;
+        }
+
+        private void removeStale() throws IOException {
+            String fileName = target.getFileName().toString();
+            String prefix = fileName.substring(0, fileName.length() - EXTENSION.length() - 32);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(target.getParent(), prefix + "*" + EXTENSION)) {
+                for (Path file : files) {
+                    if (!file.equals(target) && file.getFileName().toString().length() == fileName.length()) {
+                        deleteQuietly(file);
+                    }
+                }
+            }
+        }
+
+        private static byte tagOf(Object value) {
+            if (value instanceof Number) {
+                return CompiledSheet.NUMBER;
+            } else if (value instanceof Boolean) {
+                return CompiledSheet.BOOLEAN;
+            } else if (value == null || "".equals(value)) {
+                return CompiledSheet.EMPTY;
+            }
+            return CompiledSheet.STRING;
+        }
+
+        private static int write(DataOutputStream out, Object value) throws IOException {
+            switch (tagOf(value)) {
+                case CompiledSheet.NUMBER:
+                    out.writeDouble(((Number) value).doubleValue());
+                    return Double.BYTES;
+                case CompiledSheet.BOOLEAN:
+                    out.writeBoolean((Boolean) value);
+                    return 1;
+                case CompiledSheet.STRING:
+                    byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+                    out.write(bytes);
+                    return bytes.length;
+                default:
+                    return 0;
+            }
+        }
+
+        private static void append(FileChannel out, Path part) throws IOException {
+            try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                long position = 0;
+                long size = in.size();
+                while (position < size) {
+                    position += in.transferTo(position, size - position, out);
+                }
+            }
+        }
+
+        private static void closeQuietly(DataOutputStream out) {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    logger.debug("Failed to close compiler spill file", e);
+                }
+            }
+        }
+
+        private static void deleteQuietly(Path file) {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    logger.debug("Failed to delete {}", file, e);
+                }
+            }
+        }
+    }
+}
@@ -3,7 +3,11 @@ package com.test.automation.utils;
 import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -35,13 +39,21 @@ public class DataUtils {
     }
 
     /**
-     * Reads test data from an Excel file
+     * Reads test data from an Excel file.
+     * The sheet is compiled into a binary cache under {@code target/data-cache} on first
+     * read and memory-mapped on later reads until the workbook's content changes.
      * @param filePath Path to the Excel file
      * @param sheetName Name of the sheet to read
      * @return Object[][] containing the test data
      */
     public static Object[][] getExcelData(String filePath, String sheetName) {
         logger.info("Reading test data from Excel: " + filePath + ", Sheet: " + sheetName);
+
+        CompiledSheet compiled = DataCache.load(filePath, sheetName, DataCache.Reader.WORKBOOK);
+        if (compiled != null) {
+            return compiled.toArray();
+        }
+
         Object[][] data = null;
 
         try (Workbook workbook = WorkbookFactory.create(new FileInputStream(filePath))) {
@@ -73,6 +85,7 @@ public class DataUtils {
             }
 
             logger.info("Successfully read " + rowCount + " rows of test data");
+            DataCache.store(filePath, sheetName, data);
 
         } catch (IOException e) {
             logger.error("Failed to read Excel data", e);
@@ -81,22 +94,118 @@ public class DataUtils {
         return data;
     }
 
+    /**
+     * Streams test data from an XLSX sheet row by row, skipping the header row.
+     * Suitable for returning directly from a TestNG {@code @DataProvider}, which
+     * consumes it lazily so very large sheets never sit in memory.
+     * @param filePath Path to the Excel file
+     * @param sheetName Name of the sheet to read
+     * @return Iterator over the data rows
+     * @throws IllegalArgumentException if the sheet has no header row
+     */
+    public static Iterator<Object[]> streamExcelData(String filePath, String sheetName) {
+        logger.info("Streaming test data from Excel: " + filePath + ", Sheet: " + sheetName);
+
+        CompiledSheet compiled = DataCache.load(filePath, sheetName, DataCache.Reader.STREAMING);
+        if (compiled != null) {
+            return compiled.iterator();
+        }
+
+        try {
+            ExcelStreamReader reader = ExcelStreamReader.open(filePath, sheetName);
+            return DataCache.compileWhileReading(filePath, sheetName, reader.getHeader().length, reader);
+        } catch (IOException e) {
+            logger.error("Failed to stream Excel data", e);
+            return Collections.emptyIterator();
+        }
+    }
+
     /**
      * Reads test data from a CSV file
      * @param filePath Path to the CSV file
-     * @return List of Maps containing the test data
+     * @return List of Maps containing the test data, keyed by header column
      */
     public static List<Map<String, String>> getCsvData(String filePath) {
         logger.info("Reading test data from CSV: " + filePath);
         List<Map<String, String>> data = new ArrayList<>();
 
-        // Note: In a real implementation, you would use a CSV parsing library
-        // This is a placeholder for demonstration purposes
+        try (CsvReader reader = CsvReader.open(Paths.get(filePath))) {
+            for (CsvRecord record : reader) {
+                data.add(record);
+            }
+            logger.info("Successfully read " + data.size() + " rows of CSV data");
+        } catch (IOException | UncheckedIOException e) {
+            logger.error("Failed to read CSV data", e);
+        }
 
-        logger.info("Successfully read CSV data");
         return data;
     }
 
+    /**
+     * Streams test data from a CSV file row by row, skipping the header row.
+     * Suitable for returning directly from a TestNG {@code @DataProvider}.
+     * @param filePath Path to the CSV file
+     * @return Iterator over the data rows in column order
+     */
+    public static Iterator<Object[]> streamCsvData(String filePath) {
+        logger.info("Streaming test data from CSV: " + filePath);
+
+        CsvReader reader;
+        try {
+            reader = CsvReader.open(Paths.get(filePath));
+        } catch (IOException e) {
+            logger.error("Failed to stream CSV data", e);
+            return Collections.emptyIterator();
+        }
+
+        Iterator<CsvRecord> records = reader.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                boolean hasNext = records.hasNext();
+                if (!hasNext) {
+                    reader.close();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public Object[] next() {
+                return records.next().toArray();
+            }
+        };
+    }
+
+    /**
+     * Opens a CSV file for streaming. Call {@code stream().parallel()} on the
+     * result to parse large files on all cores; the reader must be closed.
+     * @param filePath Path to the CSV file
+     * @return Reader over the file
+     */
+    public static CsvReader openCsv(String filePath) throws IOException {
+        return CsvReader.open(Paths.get(filePath));
+    }
+
+    /**
+     * Streams test data from a SQLite database using a parameterized query.
+     * Suitable for returning directly from a TestNG {@code @DataProvider}, e.g.
+     * {@code getDatabaseData("src/test/resources/test.db", "SELECT username, password FROM users WHERE region = ?", "EU")}
+     * @param dbPath Path to the SQLite file
+     * @param sql Query to run, with {@code ?} placeholders
+     * @param params Values bound to the placeholders in order
+     * @return Iterator over the result rows
+     */
+    public static Iterator<Object[]> getDatabaseData(String dbPath, String sql, Object... params) {
+        logger.info("Reading test data from SQLite: " + dbPath + ", Query: " + sql);
+
+        try {
+            return SqliteDataSource.forFile(dbPath).query(sql, params);
+        } catch (SQLException e) {
+            logger.error("Failed to read SQLite data", e);
+            return Collections.emptyIterator();
+        }
+    }
+
     /**
      * Reads properties from a file
      * @param filePath Path to the properties file
@@ -0,0 +1,233 @@
+package com.test.automation.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.test.automation.config.ConfigManager;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * Resolves browser driver binaries once per JVM and remembers them per machine.
+ * The first resolution for a browser runs behind a memoized future that every
+ * other thread joins; the resulting path and version are persisted in a local
+ * index file so later JVMs on the same agent skip WebDriverManager entirely.
+ * Drivers found on the PATH in offline mode are used but never persisted.
+ */
+final class DriverBinaryCache {
+    private static final Logger logger = LogManager.getLogger(DriverBinaryCache.class);
+    private static final Map<String, CompletableFuture<String>> resolutions = new ConcurrentHashMap<>();
+    private static final String OFFLINE_VERSION = "local";
+
+    private DriverBinaryCache() {
+    }
+
+    /**
+     * Makes the driver binary for the browser available to Selenium and returns its path
+     */
+    static String resolve(String browser) {
+        String key = browser.toLowerCase(Locale.ROOT);
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = resolutions.putIfAbsent(key, created);
+        if (existing == null) {
+            try {
+                created.complete(resolveOnce(key));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+                // Let a later call retry instead of caching the failure
+                resolutions.remove(key, created);
+            }
+            existing = created;
+        }
+
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : new IllegalStateException("Driver resolution failed for " + key, e.getCause());
+        }
+    }
+
+    private static String resolveOnce(String browser) {
+        String property = driverProperty(browser);
+        String configured = System.getProperty(property);
+        if (configured != null && new File(configured).canExecute()) {
+            logger.info("Using {} driver from system property {}: {}", browser, property, configured);
+            return configured;
+        }
+
+        Properties index = readIndex();
+        String cachedPath = index.getProperty(browser + ".path");
+        if (cachedPath != null && new File(cachedPath).canExecute()
+                && (isOffline() || (isManaged(index, browser) && isFresh(index, browser)))) {
+            System.setProperty(property, cachedPath);
+            logger.info("Using cached {} driver {} from {}", browser,
+                    index.getProperty(browser + ".version", "unknown"), cachedPath);
+            return cachedPath;
+        }
+
+        if (isOffline()) {
+            // Used for this JVM only; the machine index keeps managed drivers for online runs
+            String path = findOnPath(executableName(browser));
+            if (path == null) {
+                throw new IllegalStateException("Offline mode: no cached or PATH " + executableName(browser)
+                        + " available; set " + property + " or run once online to populate " + indexFile());
+            }
+            System.setProperty(property, path);
+            logger.info("Offline mode: using {} driver from PATH: {}", browser, path);
+            return path;
+        }
+
+        long start = System.nanoTime();
+        WebDriverManager manager = managerFor(browser);
+        manager.setup();
+        String path = manager.getDownloadedDriverPath();
+        String version = manager.getDownloadedDriverVersion();
+        logger.info("Resolved {} driver {} in {} ms: {}", browser, version,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), path);
+
+        if (path != null) {
+            System.setProperty(property, path);
+            writeIndexEntry(browser, path, version);
+        }
+        return path;
+    }
+
+    private static boolean isOffline() {
+        return Boolean.getBoolean("driver.offline")
+                || ConfigManager.getInstance().getBooleanProperty("driver.offline", false);
+    }
+
+    /**
+     * Entries written by earlier versions from an offline PATH lookup are not reused online
+     */
+    private static boolean isManaged(Properties index, String browser) {
+        return !OFFLINE_VERSION.equals(index.getProperty(browser + ".version"));
+    }
+
+    private static boolean isFresh(Properties index, String browser) {
+        long ttlHours = ConfigManager.getInstance().getIntProperty("driver.cache.ttl.hours", 24);
+        try {
+            long resolvedAt = Long.parseLong(index.getProperty(browser + ".resolved", "0"));
+            return System.currentTimeMillis() - resolvedAt < TimeUnit.HOURS.toMillis(ttlHours);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static WebDriverManager managerFor(String browser) {
+        switch (browser) {
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                return WebDriverManager.chromedriver();
+        }
+    }
+
+    private static String driverProperty(String browser) {
+        switch (browser) {
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                return "webdriver.chrome.driver";
+        }
+    }
+
+    private static String executableName(String browser) {
+        String name;
+        switch (browser) {
+            case "firefox":
+                name = "geckodriver";
+                break;
+            case "edge":
+                name = "msedgedriver";
+                break;
+            default:
+                name = "chromedriver";
+        }
+        return System.getProperty("os.name").toLowerCase(Locale.ROOT).contains("win") ? name + ".exe" : name;
+    }
+
+    private static String findOnPath(String executable) {
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return null;
+        }
+        for (String dir : path.split(File.pathSeparator)) {
+            File candidate = new File(dir, executable);
+            if (candidate.canExecute()) {
+                return candidate.getAbsolutePath();
+            }
+        }
+        return null;
+    }
+
+    private static Path indexFile() {
+        String defaultIndex = Paths.get(System.getProperty("user.home"), ".cache",
+                "selenium-testng-framework", "driver-index.properties").toString();
+        return Paths.get(ConfigManager.getInstance().getProperty("driver.cache.index", defaultIndex));
+    }
+
+    private static Properties readIndex() {
+        Properties index = new Properties();
+        Path file = indexFile();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                index.load(in);
+            } catch (IOException e) {
+                logger.warn("Could not read driver index: {}", file, e);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Merges one entry into the index under a file lock so concurrent JVMs don't clobber each other
+     */
+    private static void writeIndexEntry(String browser, String path, String version) {
+        Path file = indexFile();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                Properties index = readIndex();
+                index.setProperty(browser + ".path", path);
+                index.setProperty(browser + ".version", version == null ? "unknown" : version);
+                index.setProperty(browser + ".resolved", String.valueOf(System.currentTimeMillis()));
+
+                Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "driver-index", ".tmp");
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    index.store(out, "Resolved WebDriver binaries");
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not update driver index: {}", file, e);
+        }
+    }
+}
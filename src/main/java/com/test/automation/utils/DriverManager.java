@@ -2,6 +2,9 @@ package com.test.automation.utils;
 
 import java.io.File;
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -10,22 +13,32 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.chromium.ChromiumNetworkConditions;
+import org.openqa.selenium.chromium.HasNetworkConditions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 
 import com.test.automation.config.ConfigManager;
-
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.test.automation.config.ConfigSnapshot;
 
 /**
  * Manages WebDriver instances for different browsers.
  */
 public class DriverManager {
     private static final Logger logger = LogManager.getLogger(DriverManager.class);
-    private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final Set<String> DRIVER_SETTINGS = Set.of(
+            "headless", "maximize.window", "implicit.wait", "page.load.timeout", "base.url");
+    // Bounds concurrent browsers independently of the number of test threads; null when unlimited
+    private static final Semaphore browserSlots = createBrowserSlots();
+    private static DriverPool pool;
+    private static volatile DriverStandby standby;
+
+    static {
+        ConfigManager.getInstance().addListener(DriverManager::onConfigChange);
+    }
 
     /**
      * Private constructor to prevent instantiation
@@ -37,6 +50,173 @@ public class DriverManager {
      * Gets a WebDriver instance for the specified browser
      */
     public static WebDriver getDriver(String browser) {
+        ExecutionContext context = ExecutionContext.current();
+        WebDriver driver;
+        try {
+            driver = createDriver(browser, context);
+        } catch (RuntimeException e) {
+            releaseBrowserSlot(context);
+            throw e;
+        }
+
+        // Store driver in the test's execution context
+        context.setDriver(driver);
+        return driver;
+    }
+
+    /**
+     * Leases a pooled WebDriver session for the specified browser.
+     * The session must be handed back with {@link #releaseDriver()}.
+     * Pooled sessions keep their browser slot while idle, so an idle session is
+     * reused without waiting for a slot.
+     */
+    public static WebDriver leaseDriver(String browser) {
+        ExecutionContext context = ExecutionContext.current();
+        String key = poolKey(browser);
+        DriverPool.PooledSession session;
+        try {
+            session = getPool().lease(key, () -> {
+                WebDriver driver = createDriver(browser, context);
+                // The slot now belongs to the pooled session and is freed when the pool retires it
+                context.setBrowserSlot(false);
+                return driver;
+            });
+        } catch (RuntimeException e) {
+            releaseBrowserSlot(context);
+            throw e;
+        }
+
+        context.setSession(session);
+        context.setDriver(session.getDriver());
+        return session.getDriver();
+    }
+
+    /**
+     * Returns the current test's pooled session to the pool after resetting it
+     */
+    public static void releaseDriver() {
+        ExecutionContext context = ExecutionContext.current();
+        DriverPool.PooledSession session = context.getSession();
+        if (session != null) {
+            try {
+                session.getOwner().release(session, ConfigManager.getInstance().getProperty("base.url", ""));
+            } finally {
+                context.setSession(null);
+                context.setDriver(null);
+                releaseBrowserSlot(context);
+            }
+            logger.info("Pooled WebDriver session released");
+        }
+    }
+
+    /**
+     * Checks whether tests should lease drivers from the session pool
+     */
+    public static boolean isPoolEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("driver.pool.enabled", false);
+    }
+
+    /**
+     * Quits all idle pooled sessions
+     */
+    public static synchronized void shutdownPool() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    private static synchronized DriverPool getPool() {
+        if (pool == null) {
+            ConfigManager config = ConfigManager.getInstance();
+            pool = new DriverPool(
+                    config.getIntProperty("driver.pool.max.size", 4),
+                    config.getIntProperty("driver.pool.max.uses", 25),
+                    config.getIntProperty("driver.pool.lease.timeout", 300),
+                    browserSlots);
+            Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::shutdownPool, "driver-pool-shutdown"));
+        }
+        return pool;
+    }
+
+    /**
+     * Sessions are only interchangeable when they share browser and launch options
+     */
+    private static String poolKey(String browser) {
+        ConfigManager config = ConfigManager.getInstance();
+        return browser.toLowerCase()
+                + "|headless=" + config.getBooleanProperty("headless")
+                + "|maximize=" + config.getBooleanProperty("maximize.window");
+    }
+
+    /**
+     * Retires pooled and standby drivers that were launched with settings that just changed
+     */
+    private static void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current) {
+        boolean driverSettingsChanged = previous.changedKeys(current).stream()
+                .anyMatch(key -> key.startsWith("driver.") || DRIVER_SETTINGS.contains(key));
+        if (driverSettingsChanged) {
+            logger.info("WebDriver settings changed, retiring pooled and standby drivers");
+            shutdownPool();
+            shutdownStandby();
+        }
+    }
+
+    /**
+     * Hands out a warm standby driver when one is ready, otherwise launches one inline.
+     * Either way the context holds a browser slot afterwards.
+     */
+    private static WebDriver createDriver(String browser, ExecutionContext context) {
+        DriverStandby standby = getStandby();
+        if (standby != null) {
+            WebDriver driver = standby.take(poolKey(browser), () -> launchDriver(browser));
+            if (driver != null) {
+                adoptBrowserSlot(context);
+                logger.info("{} WebDriver taken from warm standby", browser);
+                return driver;
+            }
+        }
+        acquireBrowserSlot(context);
+        return launchDriver(browser);
+    }
+
+    /**
+     * Starts warming standby drivers for the browser ahead of the first test
+     */
+    public static void warmUp(String browser) {
+        DriverStandby standby = getStandby();
+        if (standby != null) {
+            standby.prime(poolKey(browser), () -> launchDriver(browser));
+        }
+    }
+
+    /**
+     * Stops the warm standby stage and quits the drivers it holds
+     */
+    public static synchronized void shutdownStandby() {
+        if (standby != null) {
+            standby.shutdown();
+            standby = null;
+        }
+    }
+
+    private static synchronized DriverStandby getStandby() {
+        if (standby == null) {
+            ConfigManager config = ConfigManager.getInstance();
+            int size = config.getIntProperty("driver.standby.size", 0);
+            if (size <= 0) {
+                return null;
+            }
+            standby = new DriverStandby(size, config.getIntProperty("driver.standby.threads", size), browserSlots);
+            Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::shutdownStandby, "driver-standby-shutdown"));
+        }
+        return standby;
+    }
+
+    /**
+     * Launches and configures a new WebDriver for the specified browser
+     */
+    private static WebDriver launchDriver(String browser) {
         WebDriver driver = null;
 
         try {
@@ -60,11 +240,13 @@ public class DriverManager {
 
             // Configure WebDriver
             configureDriver(driver);
-
-            // Store driver in ThreadLocal
-            driverThreadLocal.set(driver);
             logger.info("{} WebDriver initialized successfully", browser);
 
+            // Time every command sent through the driver
+            if (ConfigManager.getInstance().getBooleanProperty("driver.instrumentation.enabled", true)) {
+                driver = new EventFiringDecorator<>(new CommandTimingListener()).decorate(driver);
+            }
+
         } catch (Exception e) {
             logger.error("Failed to initialize WebDriver for {}", browser, e);
             throw e;
@@ -84,7 +266,10 @@ public class DriverManager {
         networkConditions.setOffline(false);
         networkConditions.setDownloadThroughput(200 * 1024 / 8);
         networkConditions.setUploadThroughput(2000 * 1024 / 8);
-        ((ChromeDriver) driverThreadLocal.get()).setNetworkConditions(networkConditions);
+        WebDriver driver = ExecutionContext.current().getDriver();
+        if (driver instanceof HasNetworkConditions) {
+            ((HasNetworkConditions) driver).setNetworkConditions(networkConditions);
+        }
     }
 
     private static ChromeDriverService getDriverService() {
@@ -97,7 +282,7 @@ public class DriverManager {
 
     private static WebDriver setupChromeDriver() {
         logger.info("Setting up Chrome WebDriver");
-        WebDriverManager.chromedriver().setup();
+        DriverBinaryCache.resolve("chrome");
         ChromeOptions options = new ChromeOptions();
 
         // Add headless mode if configured
@@ -119,7 +304,7 @@ public class DriverManager {
      */
     private static WebDriver setupFirefoxDriver() {
         logger.info("Setting up Firefox WebDriver");
-        WebDriverManager.firefoxdriver().setup();
+        DriverBinaryCache.resolve("firefox");
 
         FirefoxOptions options = new FirefoxOptions();
 
@@ -137,7 +322,7 @@ public class DriverManager {
      */
     private static WebDriver setupEdgeDriver() {
         logger.info("Setting up Edge WebDriver");
-        WebDriverManager.edgedriver().setup();
+        DriverBinaryCache.resolve("edge");
 
         EdgeOptions options = new EdgeOptions();
 
@@ -166,7 +351,7 @@ public class DriverManager {
 
         // Set implicit wait
         int implicitWait = config.getIntProperty("implicit.wait");
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
+        BrowserUtils.setImplicitWait(driver, Duration.ofSeconds(implicitWait));
 
         // Set page load timeout
         int pageLoadTimeout = config.getIntProperty("page.load.timeout");
@@ -186,21 +371,105 @@ public class DriverManager {
     }
 
     /**
-     * Gets the current WebDriver instance from ThreadLocal
+     * Gets the current test's WebDriver instance, also from threads the test's
+     * {@link ExecutionContext} was propagated to
      */
     public static WebDriver getCurrentDriver() {
-        return driverThreadLocal.get();
+        return ExecutionContext.current().getDriver();
     }
 
     /**
-     * Quits the WebDriver and removes it from ThreadLocal
+     * Quits the WebDriver and removes it from the execution context
      */
     public static void quitDriver() {
-        WebDriver driver = driverThreadLocal.get();
+        ExecutionContext context = ExecutionContext.current();
+        if (context.getSession() != null) {
+            releaseDriver();
+            return;
+        }
+        WebDriver driver = context.getDriver();
         if (driver != null) {
-            driver.quit();
-            driverThreadLocal.remove();
-            logger.info("WebDriver closed and removed from ThreadLocal");
+            try {
+                driver.quit();
+            } finally {
+                context.setDriver(null);
+                releaseBrowserSlot(context);
+            }
+            logger.info("WebDriver closed and removed from execution context");
+        }
+    }
+
+    private static Semaphore createBrowserSlots() {
+        int slots = ConfigManager.getInstance().getIntProperty("execution.browser.slots", 0);
+        return slots > 0 ? new Semaphore(slots, true) : null;
+    }
+
+    /**
+     * Waits for a free browser slot unless the context already holds one.
+     * Warm standby drivers and idle pooled sessions hold slots too, so an idle one
+     * is quit rather than waited on. Gives up after {@code execution.browser.slot.timeout} seconds.
+     */
+    private static void acquireBrowserSlot(ExecutionContext context) {
+        if (browserSlots == null || context.holdsBrowserSlot()) {
+            return;
+        }
+        int timeoutSeconds = ConfigManager.getInstance().getIntProperty("execution.browser.slot.timeout", 300);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        try {
+            boolean acquired = browserSlots.tryAcquire(0, TimeUnit.SECONDS);
+            while (!acquired) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("Timed out after " + timeoutSeconds
+                            + " seconds waiting for a browser slot; every slot of execution.browser.slots"
+                            + " is held by a running test");
+                }
+                evictIdleBrowser();
+                acquired = browserSlots.tryAcquire(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)),
+                        TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser slot", e);
+        }
+        context.setBrowserSlot(true);
+    }
+
+    /**
+     * Quits a warm standby driver or, failing that, an idle pooled session to free its slot
+     */
+    private static void evictIdleBrowser() {
+        DriverStandby idleStandby = standby;
+        if (idleStandby != null && idleStandby.evict()) {
+            return;
+        }
+        DriverPool idlePool;
+        synchronized (DriverManager.class) {
+            idlePool = pool;
+        }
+        if (idlePool != null) {
+            idlePool.evict();
+        }
+    }
+
+    /**
+     * Takes over the slot of a standby driver, returning it if the context already holds one
+     */
+    private static void adoptBrowserSlot(ExecutionContext context) {
+        if (browserSlots == null) {
+            return;
+        }
+        if (context.holdsBrowserSlot()) {
+            browserSlots.release();
+        } else {
+            context.setBrowserSlot(true);
+        }
+    }
+
+    private static void releaseBrowserSlot(ExecutionContext context) {
+        if (browserSlots != null && context.holdsBrowserSlot()) {
+            context.setBrowserSlot(false);
+            browserSlots.release();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,232 @@
+package com.test.automation.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Bounded pool of reusable WebDriver sessions, keyed by browser and options.
+ * Sessions are leased to a test, reset and returned afterwards, and retired
+ * once they fail a health check or reach their maximum number of uses.
+ * When browser slots are limited, every session holds a slot from its launch
+ * until it is retired, whether leased or idle; {@link #evict} frees one.
+ */
+class DriverPool {
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+    private final int maxSize;
+    private final int maxUses;
+    private final long leaseTimeoutSeconds;
+    private final Semaphore browserSlots;
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * @param browserSlots slots shared with tests, or null when browsers are unlimited
+     */
+    DriverPool(int maxSize, int maxUses, long leaseTimeoutSeconds, Semaphore browserSlots) {
+        this.maxSize = Math.max(1, maxSize);
+        this.maxUses = Math.max(1, maxUses);
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+        this.browserSlots = browserSlots;
+    }
+
+    /**
+     * Leases a healthy session for the given key, creating one if none is idle.
+     * A new session keeps the browser slot its factory acquired until it is retired.
+     */
+    PooledSession lease(String key, Supplier<WebDriver> factory) {
+        Partition partition = partitions.computeIfAbsent(key, k -> new Partition(maxSize));
+        try {
+            if (!partition.permits.tryAcquire(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for a pooled " + key + " session");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled " + key + " session", e);
+        }
+
+        try {
+            PooledSession session;
+            while ((session = partition.idle.pollFirst()) != null) {
+                if (isHealthy(session.driver)) {
+                    session.uses++;
+                    logger.debug("Reusing pooled {} session (use {} of {})", key, session.uses, maxUses);
+                    return session;
+                }
+                logger.warn("Discarding unhealthy pooled {} session", key);
+                retire(session);
+            }
+
+            session = new PooledSession(this, key, partition, factory.get());
+            session.uses = 1;
+            logger.info("Created new pooled {} session", key);
+            return session;
+        } catch (RuntimeException e) {
+            partition.permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a session to the pool, resetting it for the next test or retiring it
+     */
+    void release(PooledSession session, String baseUrl) {
+        Partition partition = session.partition;
+        try {
+            if (closed) {
+                logger.info("Pool closed, quitting returned {} session", session.key);
+                retire(session);
+            } else if (session.uses >= maxUses) {
+                logger.info("Retiring pooled {} session after {} uses", session.key, session.uses);
+                retire(session);
+            } else if (reset(session.driver, baseUrl)) {
+                partition.idle.offerFirst(session);
+                // shutdown() may have drained the partition while the session was being reset
+                if (closed && partition.idle.remove(session)) {
+                    logger.info("Pool closed during reset, quitting returned {} session", session.key);
+                    retire(session);
+                }
+            } else {
+                logger.warn("Pooled {} session could not be reset, retiring it", session.key);
+                retire(session);
+            }
+        } finally {
+            partition.permits.release();
+        }
+    }
+
+    /**
+     * Quits every idle session and forgets all partitions.
+     * Sessions still leased are quit when they are released.
+     */
+    void shutdown() {
+        closed = true;
+        partitions.forEach((key, partition) -> {
+            PooledSession session;
+            while ((session = partition.idle.pollFirst()) != null) {
+                retire(session);
+            }
+        });
+        partitions.clear();
+        logger.info("Driver pool shut down");
+    }
+
+    /**
+     * Quits one idle session to free its browser slot for a waiting test
+     *
+     * @return true if a session was quit
+     */
+    boolean evict() {
+        for (Partition partition : partitions.values()) {
+            // The least recently used session, since release() returns sessions to the front
+            PooledSession session = partition.idle.pollLast();
+            if (session != null) {
+                logger.info("Quitting idle pooled {} session to free a browser slot", session.key);
+                retire(session);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Clears cookies, web storage and extra tabs, then navigates back to the base URL
+     */
+    private boolean reset(WebDriver driver, String baseUrl) {
+        try {
+            String original = driver.getWindowHandles().iterator().next();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(original)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(original);
+
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+
+            if (baseUrl != null && !baseUrl.isEmpty()) {
+                driver.get(baseUrl);
+            }
+            return true;
+        } catch (WebDriverException e) {
+            logger.debug("Failed to reset pooled session", e);
+            return false;
+        }
+    }
+
+    /**
+     * Cheap liveness probe: a dead session fails to report its window handle
+     */
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            return driver.getWindowHandle() != null;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Quits a session and frees its browser slot
+     */
+    private void retire(PooledSession session) {
+        try {
+            session.driver.quit();
+        } catch (WebDriverException e) {
+            logger.debug("Ignoring failure while quitting pooled session", e);
+        } finally {
+            if (browserSlots != null) {
+                browserSlots.release();
+            }
+        }
+    }
+
+    /**
+     * Idle sessions and lease permits for one browser/options key
+     */
+    private static final class Partition {
+        private final LinkedBlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+        private final Semaphore permits;
+
+        private Partition(int maxSize) {
+            this.permits = new Semaphore(maxSize, true);
+        }
+    }
+
+    /**
+     * A WebDriver session owned by the pool
+     */
+    static final class PooledSession {
+        private final DriverPool owner;
+        private final String key;
+        private final Partition partition;
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledSession(DriverPool owner, String key, Partition partition, WebDriver driver) {
+            this.owner = owner;
+            this.key = key;
+            this.partition = partition;
+            this.driver = driver;
+        }
+
+        WebDriver getDriver() {
+            return driver;
+        }
+
+        DriverPool getOwner() {
+            return owner;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.test.automation.utils;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Keeps a number of launched, configured WebDrivers on warm standby per
+ * browser/options key so a test can take one without paying startup cost.
+ * Drivers handed out are replaced asynchronously on a background executor.
+ * When browser slots are limited, every standby driver holds a slot from the
+ * moment its launch starts; {@link #take} hands that slot over with the driver.
+ */
+class DriverStandby {
+    private static final Logger logger = LogManager.getLogger(DriverStandby.class);
+    private static final long INITIAL_BACKOFF_MILLIS = 2_000;
+    private static final long MAX_BACKOFF_MILLIS = 60_000;
+
+    private final int size;
+    private final Semaphore browserSlots;
+    private final ExecutorService launcher;
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    private volatile boolean shutdown;
+
+    /**
+     * @param browserSlots slots shared with tests, or null when browsers are unlimited
+     */
+    DriverStandby(int size, int launcherThreads, Semaphore browserSlots) {
+        this.size = size;
+        this.browserSlots = browserSlots;
+        AtomicInteger counter = new AtomicInteger();
+        this.launcher = Executors.newFixedThreadPool(Math.max(1, launcherThreads), runnable -> {
+            Thread thread = new Thread(runnable, "driver-standby-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Takes a ready driver for the key if one is on standby, or returns null.
+     * The caller receives the browser slot the driver holds.
+     * Either way a refill is scheduled so the next test finds one ready.
+     */
+    WebDriver take(String key, Supplier<WebDriver> factory) {
+        Slot slot = slots.computeIfAbsent(key, k -> new Slot(factory));
+        WebDriver driver;
+        while ((driver = slot.ready.poll()) != null) {
+            if (isAlive(driver)) {
+                break;
+            }
+            logger.warn("Discarding dead standby {} driver", key);
+            retire(driver);
+        }
+        refill(key, slot);
+        return driver;
+    }
+
+    /**
+     * Starts launching drivers for the key without taking one
+     */
+    void prime(String key, Supplier<WebDriver> factory) {
+        refill(key, slots.computeIfAbsent(key, k -> new Slot(factory)));
+    }
+
+    /**
+     * Quits one ready driver to free its browser slot for a waiting test
+     *
+     * @return true if a driver was quit
+     */
+    boolean evict() {
+        for (Map.Entry<String, Slot> entry : slots.entrySet()) {
+            WebDriver driver = entry.getValue().ready.poll();
+            if (driver != null) {
+                logger.info("Quitting standby {} driver to free a browser slot", entry.getKey());
+                retire(driver);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stops launching new drivers and quits all drivers on standby
+     */
+    void shutdown() {
+        shutdown = true;
+        launcher.shutdownNow();
+        try {
+            launcher.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        slots.values().forEach(slot -> {
+            WebDriver driver;
+            while ((driver = slot.ready.poll()) != null) {
+                retire(driver);
+            }
+        });
+        slots.clear();
+        logger.info("Driver standby shut down");
+    }
+
+    /**
+     * Schedules launches up to the standby size. Runs under the slot's lock so
+     * concurrent callers cannot overshoot, and does nothing while backing off
+     * after a failed launch or while no browser slot is free.
+     */
+    private void refill(String key, Slot slot) {
+        synchronized (slot) {
+            if (System.nanoTime() - slot.retryAt < 0) {
+                return;
+            }
+            while (!shutdown && slot.ready.size() + slot.launching < size && acquireBrowserSlot()) {
+                slot.launching++;
+                try {
+                    launcher.execute(() -> launch(key, slot));
+                } catch (RuntimeException e) {
+                    // Rejected because the launcher was shut down concurrently
+                    slot.launching--;
+                    releaseBrowserSlot();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void launch(String key, Slot slot) {
+        WebDriver driver = null;
+        try {
+            long start = System.nanoTime();
+            driver = slot.factory.get();
+            logger.debug("Standby {} driver ready in {} ms", key,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            onLaunchFailure(key, slot, e);
+        } finally {
+            synchronized (slot) {
+                if (driver != null && !shutdown) {
+                    slot.ready.offer(driver);
+                    slot.failures = 0;
+                }
+                slot.launching--;
+            }
+        }
+        if (driver == null) {
+            releaseBrowserSlot();
+        } else if (shutdown) {
+            retire(driver);
+        }
+    }
+
+    /**
+     * Backs off exponentially so a browser that cannot start is not relaunched on every take
+     */
+    private void onLaunchFailure(String key, Slot slot, RuntimeException e) {
+        long backoffMillis;
+        int failures;
+        synchronized (slot) {
+            failures = ++slot.failures;
+            backoffMillis = Math.min(MAX_BACKOFF_MILLIS, INITIAL_BACKOFF_MILLIS << Math.min(failures - 1, 16));
+            slot.retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+        }
+        if (failures == 1) {
+            logger.error("Failed to launch standby {} driver, retrying in {} ms", key, backoffMillis, e);
+        } else {
+            logger.warn("Failed to launch standby {} driver ({} failures in a row), retrying in {} ms: {}",
+                    key, failures, backoffMillis, e.getMessage());
+        }
+    }
+
+    private boolean acquireBrowserSlot() {
+        if (browserSlots == null) {
+            return true;
+        }
+        try {
+            // Timed form honours the semaphore's fairness, so waiting tests go first
+            return browserSlots.tryAcquire(0, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void releaseBrowserSlot() {
+        if (browserSlots != null) {
+            browserSlots.release();
+        }
+    }
+
+    private boolean isAlive(WebDriver driver) {
+        try {
+            return driver.getWindowHandle() != null;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Quits a standby driver and frees its browser slot
+     */
+    private void retire(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            logger.debug("Ignoring failure while quitting standby driver", e);
+        } finally {
+            releaseBrowserSlot();
+        }
+    }
+
+    /**
+     * Ready drivers and in-flight launches for one browser/options key.
+     * The counters are guarded by the slot's lock.
+     */
+    private static final class Slot {
+        private final BlockingQueue<WebDriver> ready = new LinkedBlockingQueue<>();
+        private final Supplier<WebDriver> factory;
+        private int launching;
+        private int failures;
+        private long retryAt = System.nanoTime();
+
+        private Slot(Supplier<WebDriver> factory) {
+            this.factory = factory;
+        }
+    }
+}
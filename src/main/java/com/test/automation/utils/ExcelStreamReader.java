@@ -0,0 +1,260 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.SAXException;
+
+/**
+ * Streams the rows of one XLSX sheet without loading the workbook into memory.
+ * The sheet XML is pulled one row at a time, so memory stays flat regardless of
+ * sheet size and the first row is available as soon as the file is opened.
+ * The first non-empty row is treated as the header and defines the number of columns;
+ * a sheet without one is rejected. Cell values are converted the same way as
+ * {@link DataUtils#getExcelData}.
+ */
+public final class ExcelStreamReader implements Iterator<Object[]>, AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(ExcelStreamReader.class);
+
+    private final OPCPackage workbook;
+    private final InputStream sheetStream;
+    private final XMLStreamReader xml;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final String[] header;
+    private Object[] next;
+    private boolean finished;
+
+    private ExcelStreamReader(OPCPackage workbook, InputStream sheetStream, ReadOnlySharedStringsTable sharedStrings,
+                              String sheetName) throws XMLStreamException {
+        this.workbook = workbook;
+        this.sheetStream = sheetStream;
+        this.sharedStrings = sharedStrings;
+
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.xml = factory.createXMLStreamReader(sheetStream);
+
+        Object[] headerRow = readRow(-1);
+        if (headerRow == null) {
+            throw new IllegalArgumentException("Sheet " + sheetName + " has no header row");
+        }
+        this.header = toHeader(headerRow);
+    }
+
+    /**
+     * Opens a sheet of an XLSX workbook for streaming
+     * @throws IllegalArgumentException if the sheet has no non-empty row to use as header
+     */
+    public static ExcelStreamReader open(String filePath, String sheetName) throws IOException {
+        OPCPackage workbook = null;
+        try {
+            workbook = OPCPackage.open(filePath, PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(workbook);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(workbook);
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                InputStream sheet = sheets.next();
+                if (sheetName.equals(sheets.getSheetName())) {
+                    return new ExcelStreamReader(workbook, sheet, sharedStrings, sheetName);
+                }
+                sheet.close();
+            }
+            throw new IOException("Sheet not found: " + sheetName + " in " + filePath);
+        } catch (OpenXML4JException | SAXException | XMLStreamException e) {
+            closeQuietly(workbook);
+            throw new IOException("Failed to open Excel sheet " + sheetName + " in " + filePath, e);
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(workbook);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the header row
+     */
+    public String[] getHeader() {
+        return header.clone();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = readRow(header.length);
+            } catch (XMLStreamException e) {
+                close();
+                throw new IllegalStateException("Failed to read Excel row", e);
+            }
+            if (next == null) {
+                close();
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object[] row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try {
+            xml.close();
+            sheetStream.close();
+        } catch (XMLStreamException | IOException e) {
+            logger.debug("Failed to close Excel sheet stream", e);
+        }
+        closeQuietly(workbook);
+    }
+
+    /**
+     * Reads the next non-empty row. A negative width keeps every cell up to the last one present.
+     */
+    private Object[] readRow(int width) throws XMLStreamException {
+        while (xml.hasNext()) {
+            if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                Object[] row = readCells(width);
+                if (row != null) {
+                    return row;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Object[] readCells(int width) throws XMLStreamException {
+        Object[] row = new Object[width < 0 ? 16 : width];
+        Arrays.fill(row, "");
+        int lastColumn = -1;
+        int column = -1;
+        boolean empty = true;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT || !"c".equals(xml.getLocalName())) {
+                continue;
+            }
+
+            String reference = xml.getAttributeValue(null, "r");
+            column = reference == null ? column + 1 : columnIndex(reference);
+            String type = xml.getAttributeValue(null, "t");
+            Object value = readCellValue(type);
+
+            if (width < 0 && column >= row.length) {
+                row = Arrays.copyOf(row, Math.max(row.length * 2, column + 1));
+                Arrays.fill(row, lastColumn + 1, row.length, "");
+            }
+            if (column < row.length) {
+                row[column] = value;
+                lastColumn = Math.max(lastColumn, column);
+                empty &= "".equals(value);
+            }
+        }
+
+        if (empty) {
+            return null;
+        }
+        return width < 0 ? Arrays.copyOf(row, lastColumn + 1) : row;
+    }
+
+    /**
+     * Reads the content of the current cell element and converts it by cell type
+     */
+    private Object readCellValue(String type) throws XMLStreamException {
+        String raw = null;
+        StringBuilder inline = null;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("v".equals(name)) {
+                    raw = xml.getElementText();
+                } else if ("t".equals(name)) {
+                    if (inline == null) {
+                        inline = new StringBuilder();
+                    }
+                    inline.append(xml.getElementText());
+                }
+            }
+        }
+
+        if (type == null || "n".equals(type)) {
+            return raw == null || raw.isEmpty() ? "" : Double.parseDouble(raw);
+        }
+        switch (type) {
+            case "s":
+                return raw == null ? "" : sharedStrings.getItemAt(Integer.parseInt(raw)).getString();
+            case "inlineStr":
+                return inline == null ? "" : inline.toString();
+            case "str":
+                return raw == null ? "" : raw;
+            case "b":
+                return "1".equals(raw);
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Converts the column letters of a cell reference such as "AB12" to a zero-based index
+     */
+    private static int columnIndex(String reference) {
+        int index = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            index = index * 26 + (c - 'A' + 1);
+        }
+        return index - 1;
+    }
+
+    private static String[] toHeader(Object[] row) {
+        String[] names = new String[row.length];
+        for (int i = 0; i < row.length; i++) {
+            names[i] = String.valueOf(row[i]);
+        }
+        return names;
+    }
+
+    private static void closeQuietly(OPCPackage workbook) {
+        if (workbook != null) {
+            workbook.revert();
+        }
+    }
+}
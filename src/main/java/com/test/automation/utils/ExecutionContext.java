@@ -0,0 +1,112 @@
+package com.test.automation.utils;
+
+import java.util.concurrent.Callable;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Per-test state that {@link DriverManager} used to keep in thread locals: the
+ * current driver, its pooled session and whether it holds a browser slot.
+ * A context is bound to the thread running the test. Work handed to another
+ * thread, such as a virtual thread, keeps the same context when wrapped with
+ * {@link #wrap(Runnable)} or run through {@link #call(Callable)}. Changes made
+ * there, like a driver created inside the task, are visible to the test thread.
+ */
+public final class ExecutionContext {
+    private static final ThreadLocal<ExecutionContext> bound = new ThreadLocal<>();
+
+    private volatile WebDriver driver;
+    private volatile DriverPool.PooledSession session;
+    private volatile boolean browserSlot;
+
+    private ExecutionContext() {
+    }
+
+    /**
+     * Gets the context bound to the current thread, creating one on first use
+     */
+    public static ExecutionContext current() {
+        ExecutionContext context = bound.get();
+        if (context == null) {
+            context = new ExecutionContext();
+            bound.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * Runs a task on the current thread with this context bound, restoring the previous binding afterwards
+     */
+    public <T> T call(Callable<T> task) throws Exception {
+        ExecutionContext previous = bound.get();
+        bound.set(this);
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) {
+                bound.remove();
+            } else {
+                bound.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Wraps a task so that it runs with this context bound on whichever thread executes it
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            try {
+                call(() -> {
+                    task.run();
+                    return null;
+                });
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * Wraps a task so that it runs with this context bound on whichever thread executes it
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> call(task);
+    }
+
+    /**
+     * Gets the driver of this context, or null
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    void setDriver(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Checks whether the driver of this context was leased from the session pool
+     */
+    public boolean isLeased() {
+        return session != null;
+    }
+
+    DriverPool.PooledSession getSession() {
+        return session;
+    }
+
+    void setSession(DriverPool.PooledSession session) {
+        this.session = session;
+    }
+
+    boolean holdsBrowserSlot() {
+        return browserSlot;
+    }
+
+    void setBrowserSlot(boolean browserSlot) {
+        this.browserSlot = browserSlot;
+    }
+}
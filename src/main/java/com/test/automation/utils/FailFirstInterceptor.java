@@ -0,0 +1,144 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Runs the methods most likely to fail first, so a broken build shows within
+ * the first tests while the rest of the suite still runs.
+ * Each method is scored from {@link TestHistory}: failed on its last run (8),
+ * failure rate over its recorded runs (up to 4), flakiness as the rate of
+ * pass/fail flips (up to 2), and no history at all (2). Methods whose test class,
+ * or a class it mentions by name, changed since the last green run get 3 more.
+ * Methods with equal scores keep their original order. Disabled with
+ * {@code test.order.fail.first=false}.
+ */
+public class FailFirstInterceptor implements IMethodInterceptor {
+    private static final Logger logger = LogManager.getLogger(FailFirstInterceptor.class);
+    private static final String TEST_SOURCE_ROOT = "src/test/java/";
+
+    private static final Map<Class<?>, Boolean> touchedClasses = new ConcurrentHashMap<>();
+    private static volatile Set<String> changedFiles;
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ConfigManager.getInstance().getBooleanProperty("test.order.fail.first", true) || methods.size() < 2) {
+            return methods;
+        }
+        TestHistory history = TestHistory.shared();
+        Map<IMethodInstance, Double> scores = new IdentityHashMap<>();
+        for (IMethodInstance method : methods) {
+            scores.put(method, score(history, method.getMethod()));
+        }
+
+        List<IMethodInstance> ordered = order(methods, scores::get);
+        IMethodInstance first = ordered.get(0);
+        logger.info("Fail-first order for {}: starting with {} (score {})", context.getName(),
+                first.getMethod().getQualifiedName(), String.format("%.2f", scores.get(first)));
+        return ordered;
+    }
+
+    /**
+     * Sorts by descending score; the sort is stable, so equal scores keep their order
+     */
+    static <T> List<T> order(List<T> items, ToDoubleFunction<T> score) {
+        List<T> ordered = new ArrayList<>(items);
+        ordered.sort(Comparator.comparingDouble(score).reversed());
+        return ordered;
+    }
+
+    private static double score(TestHistory history, ITestNGMethod method) {
+        String key = TestHistory.key(method);
+        return score(history.runs(key), history.outcomes(key), isTouched(method.getRealClass()));
+    }
+
+    /**
+     * Scores a method from its recorded runs, where bit 0 of outcomes is the most recent run and a set bit a failure
+     */
+    static double score(int runs, int outcomes, boolean touched) {
+        double score = touched ? 3 : 0;
+        if (runs == 0) {
+            return score + 2;
+        }
+        outcomes &= mask(runs);
+        if ((outcomes & 1) != 0) {
+            score += 8;
+        }
+        score += 4.0 * Integer.bitCount(outcomes) / runs;
+        if (runs > 1) {
+            int flips = Integer.bitCount((outcomes ^ (outcomes >>> 1)) & mask(runs - 1));
+            score += 2.0 * flips / (runs - 1);
+        }
+        return score;
+    }
+
+    private static int mask(int bits) {
+        return bits >= Integer.SIZE ? -1 : (1 << bits) - 1;
+    }
+
+    /**
+     * Checks whether the test class, or a class named in its source, changed since the last green run
+     */
+    private static boolean isTouched(Class<?> testClass) {
+        Set<String> changed = changedFiles();
+        if (changed.isEmpty()) {
+            return false;
+        }
+        return touchedClasses.computeIfAbsent(testClass, type -> {
+            String sourcePath = TEST_SOURCE_ROOT + type.getName().replace('.', '/') + ".java";
+            if (changed.contains(sourcePath)) {
+                return true;
+            }
+            Path source = Paths.get(sourcePath);
+            if (!Files.exists(source)) {
+                return false;
+            }
+            String text;
+            try {
+                text = new String(Files.readAllBytes(source), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                return false;
+            }
+            for (String file : changed) {
+                if (file.endsWith(".java")) {
+                    String name = file.substring(file.lastIndexOf('/') + 1, file.length() - ".java".length());
+                    if (Pattern.compile("\\b" + Pattern.quote(name) + "\\b").matcher(text).find()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+    }
+
+    private static Set<String> changedFiles() {
+        Set<String> changed = changedFiles;
+        if (changed == null) {
+            changed = GitChanges.changedSince(TestHistory.shared().lastGreenCommit());
+            logger.info("{} files changed since the last green run", changed.size());
+            changedFiles = changed;
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,95 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Minimal read-only access to the git working copy the suite runs from.
+ * Every method returns an empty result instead of failing when git is not
+ * installed or the directory is not a repository.
+ */
+final class GitChanges {
+    private static final Logger logger = LogManager.getLogger(GitChanges.class);
+    private static final long TIMEOUT_SECONDS = 10;
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private GitChanges() {
+    }
+
+    /**
+     * Gets the commit checked out, or null
+     */
+    static String headCommit() {
+        List<String> lines = git("rev-parse", "HEAD");
+        return lines.isEmpty() ? null : lines.get(0).trim();
+    }
+
+    /**
+     * Gets the paths of tracked files changed between a commit and the working tree
+     */
+    static Set<String> changedSince(String commit) {
+        if (commit == null || commit.isBlank()) {
+            return Collections.emptySet();
+        }
+        return new LinkedHashSet<>(git("diff", "--name-only", commit.trim()));
+    }
+
+    private static List<String> git(String... args) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(Arrays.asList(args));
+        Path output = null;
+        Process process = null;
+        try {
+            // Written to a file rather than read from a pipe, so a hung git cannot block past the timeout
+            output = Files.createTempFile("git", ".out");
+            process = new ProcessBuilder(command).redirectErrorStream(true)
+                    .redirectOutput(output.toFile()).start();
+            if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                logger.debug("Timed out running {}", command);
+                return Collections.emptyList();
+            }
+            if (process.exitValue() != 0) {
+                logger.debug("{} exited with {}", command, process.exitValue());
+                return Collections.emptyList();
+            }
+            List<String> lines = new ArrayList<>();
+            for (String line : new String(Files.readAllBytes(output), StandardCharsets.UTF_8).split("\\R")) {
+                if (!line.isBlank()) {
+                    lines.add(line.trim());
+                }
+            }
+            return lines;
+        } catch (IOException e) {
+            logger.debug("Could not run git: {}", e.getMessage());
+            return Collections.emptyList();
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            return Collections.emptyList();
+        } finally {
+            if (output != null) {
+                try {
+                    Files.deleteIfExists(output);
+                } catch (IOException e) {
+                    logger.debug("Could not delete {}: {}", output, e.getMessage());
+                }
+            }
+        }
+    }
+}
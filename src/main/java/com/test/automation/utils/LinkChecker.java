@@ -0,0 +1,291 @@
+package com.test.automation.utils;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Asynchronous link checker.
+ * All requests share one {@link HttpClient}, so connections are reused, and no thread
+ * is held while a request is in flight. Requests to the same host are limited to
+ * {@code link.check.host.concurrency} at a time. Each link is requested with HEAD
+ * and, when the server refuses or fails HEAD, again with GET. Redirects are followed
+ * up to {@code link.check.max.redirects}, and results are cached per link for the
+ * lifetime of the checker, so links shared by many pages are requested once.
+ */
+public final class LinkChecker {
+    private static final Logger logger = LogManager.getLogger(LinkChecker.class);
+    private static final Set<Integer> REDIRECT_STATUSES = Set.of(301, 302, 303, 307, 308);
+    // Statuses that say the resource does not exist, whatever the method
+    private static final Set<Integer> DEFINITIVE_STATUSES = Set.of(404, 410);
+    private static final Set<String> HTTP_SCHEMES = Set.of("http", "https");
+
+    private final HttpClient client;
+    private final int hostConcurrency;
+    private final Duration timeout;
+    private final int maxRedirects;
+    private final Map<String, CompletableFuture<LinkResult>> cache = new ConcurrentHashMap<>();
+    private final Map<String, HostLimiter> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a checker configured from config.properties
+     */
+    public LinkChecker() {
+        this(ConfigManager.getInstance().getIntProperty("link.check.host.concurrency", 6),
+                Duration.ofMillis(ConfigManager.getInstance().getIntProperty("link.check.timeout.ms", 10000)),
+                ConfigManager.getInstance().getIntProperty("link.check.max.redirects", 5));
+    }
+
+    /**
+     * Creates a checker
+     * @param hostConcurrency Maximum requests in flight per host
+     * @param timeout Connect and response timeout of each request
+     * @param maxRedirects Maximum redirects followed per link
+     */
+    public LinkChecker(int hostConcurrency, Duration timeout, int maxRedirects) {
+        this.hostConcurrency = Math.max(1, hostConcurrency);
+        this.timeout = timeout;
+        this.maxRedirects = Math.max(0, maxRedirects);
+        this.client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    /**
+     * Checks the links found on a page and waits for all of them
+     * @param pageUrl URL of the page, used to resolve relative links
+     * @param hrefs Link targets as found on the page; null and non-HTTP links are skipped
+     * @return Report with one result per distinct link
+     */
+    public LinkReport checkAll(String pageUrl, Collection<String> hrefs) {
+        try {
+            return checkAllAsync(pageUrl, hrefs).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking links", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Link check failed", e.getCause());
+        }
+    }
+
+    /**
+     * Checks the links found on a page without blocking
+     */
+    public CompletableFuture<LinkReport> checkAllAsync(String pageUrl, Collection<String> hrefs) {
+        List<CompletableFuture<LinkResult>> futures = new ArrayList<>();
+        for (String href : hrefs) {
+            futures.add(checkHref(pageUrl, href));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            LinkReport report = new LinkReport();
+            for (CompletableFuture<LinkResult> future : futures) {
+                report.add(pageUrl, future.join());
+            }
+            logger.info("Checked links of {}: {}", pageUrl, report.summary());
+            return report;
+        });
+    }
+
+    /**
+     * Checks one absolute link, reusing the cached result if it was checked before
+     */
+    public CompletableFuture<LinkResult> check(String url) {
+        return checkHref(null, url);
+    }
+
+    private CompletableFuture<LinkResult> checkHref(String pageUrl, String href) {
+        String skipReason = skipReason(href);
+        if (skipReason != null) {
+            return CompletableFuture.completedFuture(LinkResult.skipped(href == null ? "" : href.trim(), skipReason));
+        }
+
+        URI uri;
+        try {
+            uri = resolve(pageUrl, href.trim());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(LinkResult.error(href.trim(), List.of(), "Invalid URL: " + e.getMessage(), 0));
+        }
+        if (uri.getScheme() == null || !HTTP_SCHEMES.contains(uri.getScheme().toLowerCase(Locale.ROOT))) {
+            return CompletableFuture.completedFuture(LinkResult.skipped(uri.toString(), "Not an HTTP link"));
+        }
+        return cache.computeIfAbsent(uri.toString(), url -> probe(url, uri));
+    }
+
+    /**
+     * Resolves a link against its page and drops the fragment, which is never sent to the server
+     */
+    static URI resolve(String pageUrl, String href) throws URISyntaxException {
+        URI link = new URI(href.replace(" ", "%20"));
+        String uri = (pageUrl == null ? link : new URI(pageUrl).resolve(link)).normalize().toString();
+        int fragment = uri.indexOf('#');
+        return new URI(fragment < 0 ? uri : uri.substring(0, fragment));
+    }
+
+    private static String skipReason(String href) {
+        if (href == null || href.isBlank()) {
+            return "No URL";
+        }
+        String value = href.trim().toLowerCase(Locale.ROOT);
+        if (value.startsWith("#")) {
+            return "Fragment only";
+        }
+        if (value.startsWith("javascript:") || value.startsWith("mailto:") || value.startsWith("tel:")
+                || value.startsWith("data:")) {
+            return "Not an HTTP link";
+        }
+        return null;
+    }
+
+    private CompletableFuture<LinkResult> probe(String url, URI uri) {
+        long start = System.nanoTime();
+        logger.debug("Checking link {}", url);
+        return follow(url, uri, new ArrayList<>(), start);
+    }
+
+    private CompletableFuture<LinkResult> follow(String url, URI target, List<String> redirects, long start) {
+        return headOrGet(target).thenCompose(response -> {
+            int status = response.statusCode();
+            if (!REDIRECT_STATUSES.contains(status)) {
+                LinkResult.Outcome outcome = status >= 400 ? LinkResult.Outcome.BROKEN : LinkResult.Outcome.OK;
+                return CompletableFuture.completedFuture(new LinkResult(url, outcome, status,
+                        response.request().method(), redirects, null, elapsedMillis(start)));
+            }
+
+            Optional<String> location = response.headers().firstValue("Location");
+            if (location.isEmpty()) {
+                return CompletableFuture.completedFuture(new LinkResult(url, LinkResult.Outcome.BROKEN, status,
+                        response.request().method(), redirects, "Redirect without Location", elapsedMillis(start)));
+            }
+            URI next;
+            try {
+                next = resolve(target.toString(), location.get());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                return CompletableFuture.completedFuture(LinkResult.error(url, redirects,
+                        "Invalid redirect: " + location.get(), elapsedMillis(start)));
+            }
+            String message = null;
+            if (next.toString().equals(url) || redirects.contains(next.toString())) {
+                message = "Redirect loop at " + next;
+            } else if (redirects.size() >= maxRedirects) {
+                message = "More than " + maxRedirects + " redirects";
+            }
+            if (message != null) {
+                return CompletableFuture.completedFuture(new LinkResult(url, LinkResult.Outcome.REDIRECT_LIMIT, status,
+                        response.request().method(), redirects, message, elapsedMillis(start)));
+            }
+            redirects.add(next.toString());
+            return follow(url, next, redirects, start);
+        }).exceptionally(e -> LinkResult.error(url, redirects, describe(e), elapsedMillis(start)));
+    }
+
+    /**
+     * Requests with HEAD, falling back to GET for servers that reject or mishandle HEAD
+     */
+    private CompletableFuture<HttpResponse<Void>> headOrGet(URI target) {
+        return send(target, "HEAD").handle((response, error) -> {
+            if (error != null && unwrap(error) instanceof HttpTimeoutException) {
+                return CompletableFuture.<HttpResponse<Void>>failedFuture(error);
+            }
+            if (error == null && (response.statusCode() < 400 || DEFINITIVE_STATUSES.contains(response.statusCode()))) {
+                return CompletableFuture.completedFuture(response);
+            }
+            return send(target, "GET");
+        }).thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<HttpResponse<Void>> send(URI target, String method) {
+        HostLimiter limiter = hosts.computeIfAbsent(target.getScheme() + "://" + target.getAuthority(),
+                key -> new HostLimiter(hostConcurrency));
+        return limiter.acquire().thenCompose(v -> {
+            CompletableFuture<HttpResponse<Void>> response;
+            try {
+                HttpRequest request = HttpRequest.newBuilder(target)
+                        .timeout(timeout)
+                        .method(method, HttpRequest.BodyPublishers.noBody())
+                        .build();
+                response = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            return response.whenComplete((r, e) -> limiter.release());
+        });
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static String describe(Throwable error) {
+        Throwable cause = unwrap(error);
+        return cause.getMessage() == null ? cause.getClass().getSimpleName()
+                : cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+
+    /**
+     * Non-blocking per-host limit: callers waiting for a slot hold a future, not a thread
+     */
+    private static final class HostLimiter {
+        private final int limit;
+        private final Deque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+        private int active;
+
+        private HostLimiter(int limit) {
+            this.limit = limit;
+        }
+
+        private synchronized CompletableFuture<Void> acquire() {
+            if (active < limit) {
+                active++;
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> slot = new CompletableFuture<>();
+            waiting.add(slot);
+            return slot;
+        }
+
+        private void release() {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    active--;
+                    return;
+                }
+            }
+            // The slot passes straight to the next waiter
+            next.complete(null);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.json.Json;
+
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+/**
+ * Results of a link check, one per distinct link, together with the pages each
+ * link was found on. Can be written as JSON or added to the ExtentReport.
+ */
+public final class LinkReport {
+    private final Map<String, LinkResult> results = new LinkedHashMap<>();
+    private final Map<String, Set<String>> pages = new LinkedHashMap<>();
+
+    synchronized void add(String page, LinkResult result) {
+        results.putIfAbsent(result.getUrl(), result);
+        if (page != null) {
+            pages.computeIfAbsent(result.getUrl(), k -> new LinkedHashSet<>()).add(page);
+        }
+    }
+
+    void addAll(LinkReport other) {
+        for (LinkResult result : other.getResults()) {
+            Set<String> found = other.getPages(result.getUrl());
+            if (found.isEmpty()) {
+                add(null, result);
+            }
+            for (String page : found) {
+                add(page, result);
+            }
+        }
+    }
+
+    /**
+     * Gets all results in the order links were first found
+     */
+    public synchronized List<LinkResult> getResults() {
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * Gets the results of broken links only
+     */
+    public synchronized List<LinkResult> getBroken() {
+        List<LinkResult> broken = new ArrayList<>();
+        for (LinkResult result : results.values()) {
+            if (result.isBroken()) {
+                broken.add(result);
+            }
+        }
+        return broken;
+    }
+
+    /**
+     * Gets the result for a link, or null if it was not checked
+     */
+    public synchronized LinkResult get(String url) {
+        return results.get(url);
+    }
+
+    /**
+     * Gets the pages a link was found on
+     */
+    public synchronized Set<String> getPages(String url) {
+        return Set.copyOf(pages.getOrDefault(url, Set.of()));
+    }
+
+    /**
+     * Gets a one-line count of links per outcome
+     */
+    public synchronized String summary() {
+        Map<LinkResult.Outcome, Integer> counts = new EnumMap<>(LinkResult.Outcome.class);
+        for (LinkResult result : results.values()) {
+            counts.merge(result.getOutcome(), 1, Integer::sum);
+        }
+        return results.size() + " links " + counts;
+    }
+
+    /**
+     * Writes the report as JSON
+     */
+    public synchronized void write(Path path) throws IOException {
+        List<Map<String, Object>> links = new ArrayList<>();
+        for (LinkResult result : results.values()) {
+            Map<String, Object> json = result.toJson();
+            json.put("pages", pages.getOrDefault(result.getUrl(), Set.of()));
+            links.add(json);
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("summary", summary());
+        json.put("links", links);
+        if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+        Files.write(path, new Json().toJson(json).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Logs the summary and a table of broken links to a report test
+     */
+    public void attach(ReportTest test) {
+        List<LinkResult> broken = getBroken();
+        test.info(summary());
+        if (broken.isEmpty()) {
+            return;
+        }
+        String[][] rows = new String[broken.size() + 1][];
+        rows[0] = new String[] {"Link", "Outcome", "Status", "Detail", "Found on"};
+        for (int i = 0; i < broken.size(); i++) {
+            LinkResult result = broken.get(i);
+            rows[i + 1] = new String[] {result.getUrl(), result.getOutcome().name(), String.valueOf(result.getStatus()),
+                    result.getMessage() == null ? "" : result.getMessage(), String.join(" ", getPages(result.getUrl()))};
+        }
+        test.log(Status.WARNING, MarkupHelper.createTable(rows));
+    }
+}
@@ -0,0 +1,119 @@
+package com.test.automation.utils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of checking one link.
+ * A link is broken when its final response has a 4xx or 5xx status, when it
+ * redirects too often or in a loop, or when no response could be obtained.
+ */
+public final class LinkResult {
+
+    /**
+     * Classification of a checked link
+     */
+    public enum Outcome {
+        OK, BROKEN, REDIRECT_LIMIT, ERROR, SKIPPED
+    }
+
+    private final String url;
+    private final Outcome outcome;
+    private final int status;
+    private final String method;
+    private final List<String> redirects;
+    private final String message;
+    private final long elapsedMillis;
+
+    LinkResult(String url, Outcome outcome, int status, String method, List<String> redirects,
+            String message, long elapsedMillis) {
+        this.url = url;
+        this.outcome = outcome;
+        this.status = status;
+        this.method = method;
+        this.redirects = List.copyOf(redirects);
+        this.message = message;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    static LinkResult skipped(String url, String reason) {
+        return new LinkResult(url, Outcome.SKIPPED, 0, null, List.of(), reason, 0);
+    }
+
+    static LinkResult error(String url, List<String> redirects, String message, long elapsedMillis) {
+        return new LinkResult(url, Outcome.ERROR, 0, null, redirects, message, elapsedMillis);
+    }
+
+    /**
+     * Gets the link as checked, resolved against its page and without fragment
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the status of the final response, or 0 if there was none
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the HTTP method of the final request, HEAD unless the server refused it
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets the redirect targets followed, in order
+     */
+    public List<String> getRedirects() {
+        return redirects;
+    }
+
+    /**
+     * Gets the final URL after redirects
+     */
+    public String getFinalUrl() {
+        return redirects.isEmpty() ? url : redirects.get(redirects.size() - 1);
+    }
+
+    /**
+     * Gets the error or skip reason, or null
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public boolean isBroken() {
+        return outcome == Outcome.BROKEN || outcome == Outcome.REDIRECT_LIMIT || outcome == Outcome.ERROR;
+    }
+
+    Map<String, Object> toJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("url", url);
+        json.put("outcome", outcome.name());
+        json.put("status", status);
+        json.put("method", method);
+        json.put("redirects", redirects);
+        json.put("message", message);
+        json.put("elapsedMillis", elapsedMillis);
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        String detail = message != null ? message : String.valueOf(status);
+        return outcome + " " + url + " (" + detail + ")";
+    }
+}
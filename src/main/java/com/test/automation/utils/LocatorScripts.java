@@ -0,0 +1,82 @@
+package com.test.automation.utils;
+
+import org.openqa.selenium.By;
+
+/**
+ * Translates Selenium locators into JavaScript that resolves them inside the page,
+ * so several lookups can be done in a single script call instead of one
+ * findElement round-trip each.
+ */
+public final class LocatorScripts {
+
+    /**
+     * JavaScript function expression {@code (using, value)} that returns an array of the
+     * elements matching a W3C locator strategy in the current document
+     */
+    public static final String FIND =
+            "function (using, value) {"
+            + "  var root = document;"
+            + "  switch (using) {"
+            + "    case 'css selector': return Array.prototype.slice.call(root.querySelectorAll(value));"
+            + "    case 'id': return Array.prototype.slice.call(root.querySelectorAll('#' + CSS.escape(value)));"
+            + "    case 'name': return Array.prototype.slice.call(root.querySelectorAll('[name=\"' + CSS.escape(value) + '\"]'));"
+            + "    case 'class name': return Array.prototype.slice.call(root.querySelectorAll('.' + CSS.escape(value)));"
+            + "    case 'tag name': return Array.prototype.slice.call(root.getElementsByTagName(value));"
+            + "    case 'xpath':"
+            + "      var result = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "      var nodes = [];"
+            + "      for (var i = 0; i < result.snapshotLength; i++) { nodes.push(result.snapshotItem(i)); }"
+            + "      return nodes;"
+            + "    case 'link text':"
+            + "    case 'partial link text':"
+            + "      return Array.prototype.slice.call(root.querySelectorAll('a')).filter(function (a) {"
+            + "        var text = (a.innerText || a.textContent || '').trim();"
+            + "        return using === 'link text' ? text === value : text.indexOf(value) >= 0;"
+            + "      });"
+            + "    default: throw new Error('Unsupported locator strategy: ' + using);"
+            + "  }"
+            + "}";
+
+    /**
+     * JavaScript function expression {@code (element)} approximating WebElement.isDisplayed()
+     */
+    public static final String IS_VISIBLE =
+            "function (el) {"
+            + "  for (var node = el; node && node.nodeType === 1; node = node.parentElement) {"
+            + "    var style = window.getComputedStyle(node);"
+            + "    if (style.display === 'none' || style.opacity === '0') { return false; }"
+            + "  }"
+            + "  var own = window.getComputedStyle(el);"
+            + "  if (own.visibility === 'hidden' || own.visibility === 'collapse') { return false; }"
+            + "  var rect = el.getBoundingClientRect();"
+            + "  return rect.width > 0 && rect.height > 0;"
+            + "}";
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private LocatorScripts() {
+    }
+
+    /**
+     * Checks whether the locator can be resolved by {@link #FIND}
+     */
+    public static boolean supports(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return false;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return parameters != null && parameters.value() instanceof String;
+    }
+
+    /**
+     * Gets the {@code (using, value)} script arguments for a supported locator
+     */
+    public static Object[] arguments(By locator) {
+        if (!supports(locator)) {
+            throw new IllegalArgumentException("Locator cannot be resolved in the page: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return new Object[] {parameters.using(), parameters.value()};
+    }
+}
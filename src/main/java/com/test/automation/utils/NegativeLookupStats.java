@@ -0,0 +1,60 @@
+package com.test.automation.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Suite-wide counters for element presence checks.
+ * Records how many checks found nothing and how long they took, together with
+ * the implicit wait each of them would have paid with a plain findElement.
+ */
+public final class NegativeLookupStats {
+    private static final Logger logger = LogManager.getLogger(NegativeLookupStats.class);
+
+    private static final LongAdder lookups = new LongAdder();
+    private static final LongAdder negatives = new LongAdder();
+    private static final LongAdder negativeNanos = new LongAdder();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private NegativeLookupStats() {
+    }
+
+    /**
+     * Records one presence check; also used by page snapshots for each locator they capture
+     */
+    public static void record(boolean found, long elapsedNanos) {
+        lookups.increment();
+        if (!found) {
+            negatives.increment();
+            negativeNanos.add(elapsedNanos);
+        }
+    }
+
+    /**
+     * Gets a one-line summary of the presence checks made so far
+     */
+    public static String summary() {
+        long negativeCount = negatives.sum();
+        long spentMillis = TimeUnit.NANOSECONDS.toMillis(negativeNanos.sum());
+        long implicitWaitSeconds = ConfigManager.getInstance().getIntProperty("implicit.wait", 0);
+        long avoidedMillis = negativeCount * TimeUnit.SECONDS.toMillis(implicitWaitSeconds);
+        return String.format("%d presence checks, %d negative taking %d ms in total (about %d ms of implicit wait avoided)",
+                lookups.sum(), negativeCount, spentMillis, avoidedMillis);
+    }
+
+    /**
+     * Logs the summary and adds it to the report
+     */
+    public static void report() {
+        String summary = summary();
+        logger.info("Negative lookups: {}", summary);
+        ReportManager.setSystemInfo("Negative lookups", summary);
+    }
+}
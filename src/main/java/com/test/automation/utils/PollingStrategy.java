@@ -0,0 +1,93 @@
+package com.test.automation.utils;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides how long a fluent wait sleeps between evaluations of its condition.
+ * Each wait asks the strategy for a fresh {@link Schedule}, so one strategy can
+ * be shared by any number of concurrent waits.
+ */
+public interface PollingStrategy {
+
+    /**
+     * Starts the schedule for one wait
+     */
+    Schedule start();
+
+    /**
+     * The sleep intervals of a single wait
+     */
+    interface Schedule {
+
+        /**
+         * Gets the interval to sleep before the next evaluation
+         */
+        Duration next();
+
+        /**
+         * Called once the condition is satisfied, with the time it took
+         */
+        default void satisfied(Duration elapsed) {
+        }
+    }
+
+    /**
+     * Polls at a constant interval, as a plain FluentWait does
+     */
+    static PollingStrategy fixed(Duration interval) {
+        return () -> () -> interval;
+    }
+
+    /**
+     * Starts at the initial interval and multiplies it by the factor after every
+     * evaluation, up to the cap. Each interval is shortened by a random amount of
+     * up to {@code jitter} (0-1) of itself, so parallel waits don't poll in lockstep.
+     */
+    static PollingStrategy exponential(Duration initial, double factor, Duration max, double jitter) {
+        return () -> new Backoff(initial.toMillis(), factor, max.toMillis(), jitter);
+    }
+
+    /**
+     * Exponential backoff from 50 ms, doubling up to 1 s, with 20% jitter
+     */
+    static PollingStrategy backoff() {
+        return exponential(Duration.ofMillis(50), 2.0, Duration.ofSeconds(1), 0.2);
+    }
+
+    /**
+     * Learns how long waits for the given key (typically a locator) usually take
+     * and sleeps until just before that time, then backs off from a short interval.
+     * Timings persist between runs in the file configured by {@code wait.stats.file}.
+     */
+    static PollingStrategy learned(String key) {
+        return () -> WaitStats.shared().schedule(key);
+    }
+
+    /**
+     * Exponential backoff schedule
+     */
+    final class Backoff implements Schedule {
+        private final double factor;
+        private final long maxMillis;
+        private final double jitter;
+        private double nextMillis;
+
+        Backoff(long initialMillis, double factor, long maxMillis, double jitter) {
+            this.nextMillis = Math.max(1, initialMillis);
+            this.factor = Math.max(1.0, factor);
+            this.maxMillis = Math.max(1, maxMillis);
+            this.jitter = Math.min(1.0, Math.max(0.0, jitter));
+        }
+
+        @Override
+        public Duration next() {
+            double interval = Math.min(nextMillis, maxMillis);
+            nextMillis = interval * factor;
+            if (jitter > 0) {
+                interval -= interval * jitter * ThreadLocalRandom.current().nextDouble();
+            }
+            return Duration.ofMillis(Math.max(1, Math.round(interval)));
+        }
+    }
+}
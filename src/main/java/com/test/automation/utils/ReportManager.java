@@ -0,0 +1,162 @@
+package com.test.automation.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.JsonFormatter;
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Single reporting subsystem shared by the whole suite.
+ * Test threads only enqueue events on a lock-free queue; one background writer
+ * thread owns the {@link ExtentReports} instance, applies the events in order
+ * and flushes the report incrementally while the suite runs.
+ */
+public final class ReportManager {
+    private static final Logger logger = LogManager.getLogger(ReportManager.class);
+    public static final String REPORT_PATH = "test-output/ExtentReport.html";
+    private static final String RESULT_ATTRIBUTE = "report.test";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+    private static final ExtentReports extent = new ExtentReports();
+    private static final long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(
+            ConfigManager.getInstance().getIntProperty("report.flush.interval.ms", 5000));
+    private static final Thread writer = new Thread(ReportManager::writeLoop, "report-writer");
+    private static volatile boolean running = true;
+    private static volatile boolean flushRequested;
+
+    static {
+        extent.attachReporter(new ExtentSparkReporter(REPORT_PATH));
+        extent.setSystemInfo("OS", System.getProperty("os.name"));
+        extent.setSystemInfo("Java Version", System.getProperty("java.version"));
+
+        // Sharded runs also archive the report model so ReportMerger can combine the shards
+        Shard shard = Shard.current();
+        if (shard != null) {
+            extent.attachReporter(new JsonFormatter(ReportMerger.archivePath(shard)));
+            extent.setSystemInfo("Shard", shard.toString());
+        }
+
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(ReportManager::close, "report-shutdown"));
+    }
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ReportManager() {
+    }
+
+    /**
+     * Creates a new report entry
+     */
+    public static ReportTest createTest(String name) {
+        ReportTest test = new ReportTest();
+        submit(() -> test.bind(extent.createTest(name)));
+        return test;
+    }
+
+    /**
+     * Gets the report entry for a TestNG result, creating it on first use, so
+     * base classes and listeners handling the same test share one entry
+     */
+    public static ReportTest forResult(ITestResult result) {
+        synchronized (result) {
+            Object existing = result.getAttribute(RESULT_ATTRIBUTE);
+            if (existing instanceof ReportTest) {
+                return (ReportTest) existing;
+            }
+            ReportTest test = createTest(result.getName());
+            result.setAttribute(RESULT_ATTRIBUTE, test);
+            return test;
+        }
+    }
+
+    /**
+     * Adds a row to the report's system information
+     */
+    public static void setSystemInfo(String key, String value) {
+        submit(() -> extent.setSystemInfo(key, value));
+    }
+
+    /**
+     * Asks the writer to flush as soon as it has applied the pending events, without waiting
+     */
+    public static void requestFlush() {
+        flushRequested = true;
+        LockSupport.unpark(writer);
+    }
+
+    /**
+     * Applies all pending events, writes the final report and stops the writer
+     */
+    public static synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("ExtentReports finalized at: " + REPORT_PATH);
+    }
+
+    /**
+     * Queues an action to run on the writer thread
+     */
+    static void submit(Runnable event) {
+        if (!running) {
+            logger.warn("Report already closed, dropping event");
+            return;
+        }
+        events.offer(event);
+        LockSupport.unpark(writer);
+    }
+
+    private static void writeLoop() {
+        long lastFlush = System.nanoTime();
+        boolean dirty = false;
+
+        while (true) {
+            boolean stopping = !running;
+            Runnable event;
+            while ((event = events.poll()) != null) {
+                try {
+                    event.run();
+                } catch (RuntimeException e) {
+                    logger.error("Failed to apply report event", e);
+                }
+                dirty = true;
+            }
+
+            long now = System.nanoTime();
+            if (stopping || (dirty && (flushRequested || now - lastFlush >= flushIntervalNanos))) {
+                flushRequested = false;
+                try {
+                    extent.flush();
+                } catch (RuntimeException e) {
+                    logger.error("Failed to flush report", e);
+                }
+                lastFlush = now;
+                dirty = false;
+            }
+            if (stopping) {
+                return;
+            }
+            LockSupport.parkNanos(ReportManager.class, IDLE_PARK_NANOS);
+        }
+    }
+}
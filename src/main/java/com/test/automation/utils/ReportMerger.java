@@ -0,0 +1,86 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+
+/**
+ * Combines the output of sharded runs into one report.
+ * Each shard archives its ExtentReports model as JSON next to its HTML report;
+ * the merger rebuilds one HTML report from all archives found under a directory
+ * and merges the shards' test history files so the next run is balanced on
+ * all of them.
+ * Usage: {@code ReportMerger [searchDir] [reportPath]}
+ */
+public final class ReportMerger {
+    private static final Logger logger = LogManager.getLogger(ReportMerger.class);
+    public static final String SHARD_ARCHIVE_DIR = "test-output/shards";
+    private static final String ARCHIVE_PREFIX = "extent-shard-";
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ReportMerger() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path searchDir = Paths.get(args.length > 0 ? args[0] : ".");
+        Path report = Paths.get(args.length > 1 ? args[1] : ReportManager.REPORT_PATH);
+        merge(searchDir, report);
+    }
+
+    /**
+     * Merges all shard archives and history files found under a directory
+     * @param searchDir Directory searched recursively
+     * @param report Path of the merged HTML report
+     */
+    public static void merge(Path searchDir, Path report) throws IOException {
+        List<Path> archives = find(searchDir, name -> name.startsWith(ARCHIVE_PREFIX) && name.endsWith(".json"));
+        if (archives.isEmpty()) {
+            logger.warn("No shard report archives found under {}", searchDir);
+        } else {
+            ExtentReports extent = new ExtentReports();
+            for (Path archive : archives) {
+                extent.createDomainFromJsonArchive(archive.toString());
+            }
+            extent.attachReporter(new ExtentSparkReporter(report.toString()));
+            extent.flush();
+            logger.info("Merged {} shard reports into {}", archives.size(), report);
+        }
+
+        Path history = TestHistory.defaultFile();
+        String historyName = history.getFileName().toString();
+        List<Path> histories = find(searchDir, historyName::equals);
+        if (!histories.isEmpty()) {
+            TestHistory.merge(histories, history);
+            logger.info("Merged {} test history files into {}", histories.size(), history);
+        }
+    }
+
+    /**
+     * Gets the path a shard archives its report model to
+     */
+    static String archivePath(Shard shard) {
+        return SHARD_ARCHIVE_DIR + "/" + ARCHIVE_PREFIX + shard.fileSuffix() + ".json";
+    }
+
+    private static List<Path> find(Path dir, Predicate<String> fileName) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(path -> fileName.test(path.getFileName().toString()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.test.automation.utils;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.Markup;
+
+/**
+ * Handle to one entry in the shared report.
+ * Calls return immediately; the work is applied in order by the report writer thread.
+ */
+public final class ReportTest {
+    private ExtentTest extentTest;
+    private volatile boolean statusLogged;
+
+    ReportTest() {
+    }
+
+    /**
+     * Called on the writer thread once the underlying entry exists
+     */
+    void bind(ExtentTest extentTest) {
+        this.extentTest = extentTest;
+    }
+
+    /**
+     * Logs an informational step
+     */
+    public ReportTest info(String details) {
+        return log(Status.INFO, details);
+    }
+
+    /**
+     * Logs a step with the given status
+     */
+    public ReportTest log(Status status, String details) {
+        ReportManager.submit(() -> extentTest.log(status, details));
+        return this;
+    }
+
+    /**
+     * Logs formatted content, such as a table, with the given status
+     */
+    public ReportTest log(Status status, Markup markup) {
+        ReportManager.submit(() -> extentTest.log(status, markup));
+        return this;
+    }
+
+    /**
+     * Logs the final outcome of the test. Only the first outcome is recorded,
+     * so the base class and the listener can both report it safely.
+     */
+    public ReportTest result(Status status, String details) {
+        if (!statusLogged) {
+            statusLogged = true;
+            log(status, details);
+        }
+        return this;
+    }
+
+    /**
+     * Attaches a screenshot stored at the given path
+     */
+    public ReportTest addScreenCapture(Status status, String title, String path) {
+        ReportManager.submit(() -> extentTest.log(status, title,
+                MediaEntityBuilder.createScreenCaptureFromPath(path).build()));
+        return this;
+    }
+}
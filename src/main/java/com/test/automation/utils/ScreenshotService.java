@@ -0,0 +1,189 @@
+package com.test.automation.utils;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.ITestResult;
+
+import com.aventstack.extentreports.Status;
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Single entry point for screenshots.
+ * The calling thread only waits for the browser to return the PNG bytes; writing,
+ * optional downscaling and report attachment happen on a small bounded executor.
+ * When the executor is saturated new screenshots are dropped rather than
+ * blocking the test. Failure screenshots are taken at most once per test result.
+ */
+public final class ScreenshotService {
+    private static final Logger logger = LogManager.getLogger(ScreenshotService.class);
+    public static final String SCREENSHOT_PATH = "test-output/screenshots/";
+    private static final String RESULT_ATTRIBUTE = "screenshot.path";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+
+    private static final ThreadPoolExecutor writer = createWriter();
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private ScreenshotService() {
+    }
+
+    /**
+     * Takes a screenshot and returns the path it will be written to.
+     * Returns null if the screenshot could not be taken or was dropped.
+     */
+    public static String capture(WebDriver driver, String name) {
+        return capture(driver, name, null);
+    }
+
+    /**
+     * Takes the failure screenshot for a test result and attaches it to the report.
+     * Later calls for the same result return the existing path without another capture.
+     */
+    public static String captureFailure(ITestResult result, WebDriver driver) {
+        if (!ConfigManager.getInstance().getBooleanProperty("capture.screenshot.on.failure", true)) {
+            return null;
+        }
+        synchronized (result) {
+            Object existing = result.getAttribute(RESULT_ATTRIBUTE);
+            if (existing != null) {
+                return (String) existing;
+            }
+            String path = capture(driver, result.getName(), ReportManager.forResult(result));
+            if (path != null) {
+                result.setAttribute(RESULT_ATTRIBUTE, path);
+            }
+            return path;
+        }
+    }
+
+    /**
+     * Waits for pending screenshots to be written, then stops the writer
+     */
+    public static void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Timed out waiting for screenshots to be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String capture(WebDriver driver, String name, ReportTest test) {
+        if (!(driver instanceof TakesScreenshot)) {
+            logger.warn("WebDriver cannot take screenshots, skipping: {}", name);
+            return null;
+        }
+
+        byte[] png;
+        try {
+            png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (WebDriverException e) {
+            logger.error("Failed to capture screenshot", e);
+            return null;
+        }
+
+        String fileName = name.replaceAll("[^A-Za-z0-9._-]", "_") + "_" + LocalDateTime.now().format(TIMESTAMP) + ".png";
+        Path path = Paths.get(SCREENSHOT_PATH, fileName);
+        if (writer.isShutdown()) {
+            logger.warn("Screenshot writer stopped, dropping screenshot: {}", fileName);
+            return null;
+        }
+        try {
+            writer.execute(() -> write(png, path, test));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Screenshot queue full, dropping screenshot: {}", fileName);
+            return null;
+        }
+        return SCREENSHOT_PATH + fileName;
+    }
+
+    private static void write(byte[] png, Path path, ReportTest test) {
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(path, scale(png));
+            logger.info("Screenshot saved to: {}", path);
+            if (test != null) {
+                test.addScreenCapture(Status.FAIL, "Screenshot", path.toString());
+            }
+        } catch (IOException e) {
+            logger.error("Failed to write screenshot {}", path, e);
+        }
+    }
+
+    /**
+     * Downscales the image by the configured screenshot.scale factor; 1 keeps it unchanged
+     */
+    private static byte[] scale(byte[] png) throws IOException {
+        double factor;
+        try {
+            factor = Double.parseDouble(ConfigManager.getInstance().getProperty("screenshot.scale", "1"));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid screenshot.scale, keeping full size");
+            return png;
+        }
+        if (factor <= 0 || factor >= 1) {
+            return png;
+        }
+
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) {
+            return png;
+        }
+        int width = Math.max(1, (int) Math.round(source.getWidth() * factor));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * factor));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(scaled, "png", out);
+        return out.toByteArray();
+    }
+
+    private static ThreadPoolExecutor createWriter() {
+        ConfigManager config = ConfigManager.getInstance();
+        int threads = Math.max(1, config.getIntProperty("screenshot.writer.threads", 2));
+        int queueSize = Math.max(1, config.getIntProperty("screenshot.queue.size", 32));
+        AtomicInteger counter = new AtomicInteger();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
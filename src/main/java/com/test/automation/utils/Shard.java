@@ -0,0 +1,66 @@
+package com.test.automation.utils;
+
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Slice of the suite run by this JVM, selected with {@code -Dshard=i/K}
+ * where shards are numbered from 1 to K.
+ */
+final class Shard {
+    private final int index;
+    private final int count;
+
+    private Shard(int index, int count) {
+        this.index = index;
+        this.count = count;
+    }
+
+    /**
+     * Gets the configured shard, or null when the whole suite runs in this JVM
+     */
+    static Shard current() {
+        return parse(ConfigManager.getInstance().getProperty("shard", ""));
+    }
+
+    static Shard parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String[] parts = value.trim().split("/");
+        try {
+            if (parts.length == 2) {
+                int index = Integer.parseInt(parts[0].trim());
+                int count = Integer.parseInt(parts[1].trim());
+                if (count >= 1 && index >= 1 && index <= count) {
+                    return count == 1 ? null : new Shard(index, count);
+                }
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid shard '" + value + "', expected i/K with 1 <= i <= K");
+    }
+
+    /**
+     * Gets the 1-based index of this shard
+     */
+    int getIndex() {
+        return index;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets a file name friendly form, e.g. {@code 2-of-4}
+     */
+    String fileSuffix() {
+        return index + "-of-" + count;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
@@ -0,0 +1,151 @@
+package com.test.automation.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+/**
+ * Runs only this JVM's slice of the suite when {@code -Dshard=i/K} is set.
+ * All test methods of the suite are partitioned across the K shards by
+ * longest-processing-time-first bin packing on their durations from
+ * {@link TestHistory}: methods are taken longest first and each goes to the
+ * shard with the least total so far. Every shard computes the same partition
+ * from the same history file, so shards need no coordination and finish at
+ * roughly the same time. Methods without history are estimated at the average
+ * of those with history. Methods of a class that uses dependsOnMethods or
+ * dependsOnGroups stay together on one shard.
+ */
+public class ShardInterceptor implements IMethodInterceptor {
+    private static final Logger logger = LogManager.getLogger(ShardInterceptor.class);
+    private static final long DEFAULT_DURATION_MILLIS = 30_000;
+
+    // Keys of the methods selected for this shard, computed once per suite
+    private static final Map<ISuite, Set<String>> selections = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Shard shard = Shard.current();
+        if (shard == null) {
+            return methods;
+        }
+        Set<String> selected = selections.computeIfAbsent(context.getSuite(),
+                suite -> select(suite.getAllMethods(), shard));
+
+        List<IMethodInstance> slice = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (selected.contains(unitKey(method.getMethod()))) {
+                slice.add(method);
+            }
+        }
+        logger.info("Shard {} runs {} of {} methods in {}", shard, slice.size(), methods.size(), context.getName());
+        return slice;
+    }
+
+    private static Set<String> select(List<ITestNGMethod> methods, Shard shard) {
+        TestHistory history = TestHistory.shared();
+        Map<String, Long> durations = new LinkedHashMap<>();
+        for (ITestNGMethod method : methods) {
+            durations.putIfAbsent(unitKey(method), history.durationMillis(TestHistory.key(method)));
+        }
+        Map<String, String> groups = groupDependentMethods(methods);
+
+        List<Set<String>> partition = partition(estimate(durations), groups, shard.getCount());
+        return partition.get(shard.getIndex() - 1);
+    }
+
+    /**
+     * Replaces unknown durations with the average known duration
+     */
+    private static Map<String, Long> estimate(Map<String, Long> durations) {
+        long known = durations.values().stream().filter(d -> d >= 0).count();
+        long fallback = known == 0 ? DEFAULT_DURATION_MILLIS
+                : durations.values().stream().filter(d -> d >= 0).mapToLong(Long::longValue).sum() / known;
+        Map<String, Long> estimated = new LinkedHashMap<>();
+        durations.forEach((key, duration) -> estimated.put(key, duration >= 0 ? duration : fallback));
+        return estimated;
+    }
+
+    /**
+     * Maps each method of a class with dependencies to a group key shared by the whole class
+     */
+    private static Map<String, String> groupDependentMethods(List<ITestNGMethod> methods) {
+        Set<String> dependentClasses = new HashSet<>();
+        for (ITestNGMethod method : methods) {
+            if (method.getMethodsDependedUpon().length > 0 || method.getGroupsDependedUpon().length > 0) {
+                dependentClasses.add(classKey(method));
+            }
+        }
+        Map<String, String> groups = new HashMap<>();
+        for (ITestNGMethod method : methods) {
+            if (dependentClasses.contains(classKey(method))) {
+                groups.put(unitKey(method), classKey(method));
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Longest-processing-time-first assignment of work units to shards.
+     * Methods sharing a group form one unit. Ties are broken by key and by lowest
+     * shard index, so the result depends only on its inputs.
+     */
+    static List<Set<String>> partition(Map<String, Long> durations, Map<String, String> groups, int shardCount) {
+        Map<String, List<String>> units = new LinkedHashMap<>();
+        Map<String, Long> unitDurations = new HashMap<>();
+        durations.forEach((key, duration) -> {
+            String unit = groups.getOrDefault(key, key);
+            units.computeIfAbsent(unit, k -> new ArrayList<>()).add(key);
+            unitDurations.merge(unit, duration, Long::sum);
+        });
+
+        List<String> order = new ArrayList<>(units.keySet());
+        order.sort(Comparator.comparingLong((String unit) -> unitDurations.get(unit)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        long[] loads = new long[shardCount];
+        List<Set<String>> shards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new HashSet<>());
+        }
+        for (String unit : order) {
+            int lightest = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            loads[lightest] += unitDurations.get(unit);
+            shards.get(lightest).addAll(units.get(unit));
+        }
+        logger.debug("Shard loads in ms: {}", Arrays.toString(loads));
+        return shards;
+    }
+
+    /**
+     * Identifies a method within its {@code <test>}, since the same method may run in several
+     */
+    private static String unitKey(ITestNGMethod method) {
+        String test = method.getXmlTest() == null ? "" : method.getXmlTest().getName();
+        return test + "/" + TestHistory.key(method);
+    }
+
+    private static String classKey(ITestNGMethod method) {
+        String test = method.getXmlTest() == null ? "" : method.getXmlTest().getName();
+        return test + "/" + method.getRealClass().getName();
+    }
+}
@@ -0,0 +1,336 @@
+package com.test.automation.utils;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Breadth-first crawler that checks every link and resource of a site.
+ * The URLs of each page are extracted in one round-trip, with a single script or,
+ * for drivers without JavaScript, a single page source parse. Crawling and checking
+ * run as a pipeline: extracted pages go through a bounded queue to a thread that
+ * hands them to a {@link LinkChecker}, and the crawler blocks when checking falls
+ * behind by more than {@code crawl.queue.size} pages. If the checking thread fails,
+ * the crawl stops and rethrows its failure; if the crawl fails, the checking thread
+ * is stopped.
+ */
+public final class SiteCrawler {
+    private static final Logger logger = LogManager.getLogger(SiteCrawler.class);
+
+    /**
+     * Returns the document URL, base URI and the absolute URLs of anchors, images,
+     * scripts and stylesheets of the current page
+     */
+    static final String EXTRACT_SCRIPT =
+            "var pick = function (selector, property) {"
+            + "  return Array.prototype.map.call(document.querySelectorAll(selector), function (e) { return e[property]; })"
+            + "    .filter(function (url) { return typeof url === 'string' && url.length > 0; });"
+            + "};"
+            + "return {"
+            + "  url: document.URL,"
+            + "  base: document.baseURI,"
+            + "  pages: pick('a[href], area[href]', 'href'),"
+            + "  resources: pick('img[src]', 'src').concat(pick('script[src]', 'src'),"
+            + "    pick('link[rel~=\"stylesheet\"][href]', 'href'))"
+            + "};";
+
+    private static final Pattern TAG = Pattern.compile("<(a|area|img|script|link|base)\\b[^>]*>",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern ATTRIBUTE = Pattern.compile(
+            "\\s(href|src|rel)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s>]+))", Pattern.CASE_INSENSITIVE);
+    private static final PageLinks END = new PageLinks("", List.of(), List.of());
+
+    private final WebDriver driver;
+    private final LinkChecker checker;
+    private final int maxDepth;
+    private final int maxPages;
+    private final int queueSize;
+
+    /**
+     * Creates a crawler configured from config.properties
+     */
+    public SiteCrawler(WebDriver driver) {
+        this(driver, new LinkChecker(),
+                ConfigManager.getInstance().getIntProperty("crawl.max.depth", 2),
+                ConfigManager.getInstance().getIntProperty("crawl.max.pages", 200),
+                ConfigManager.getInstance().getIntProperty("crawl.queue.size", 16));
+    }
+
+    /**
+     * Creates a crawler
+     * @param driver Driver used to load pages
+     * @param checker Checker the extracted links are passed to
+     * @param maxDepth Link depth from the start page up to which pages are crawled; 0 checks only the start page
+     * @param maxPages Maximum number of pages loaded
+     * @param queueSize Pages extracted but not yet checked before the crawler waits
+     */
+    public SiteCrawler(WebDriver driver, LinkChecker checker, int maxDepth, int maxPages, int queueSize) {
+        this.driver = driver;
+        this.checker = checker;
+        this.maxDepth = Math.max(0, maxDepth);
+        this.maxPages = Math.max(1, maxPages);
+        this.queueSize = Math.max(1, queueSize);
+    }
+
+    /**
+     * Crawls the pages of the start URL's origin and checks all links and resources found on them
+     * @param startUrl First page to load
+     * @return Report with one result per distinct link or resource
+     */
+    public LinkReport crawl(String startUrl) {
+        URI start = toUri(null, startUrl);
+        if (start == null) {
+            throw new IllegalArgumentException("Invalid start URL: " + startUrl);
+        }
+
+        LinkReport report = new LinkReport();
+        BlockingQueue<PageLinks> queue = new ArrayBlockingQueue<>(queueSize);
+        Pipeline pipeline = new Pipeline(queue, report);
+        Thread consumer = new Thread(pipeline, "link-check-pipeline");
+        consumer.setDaemon(true);
+        consumer.start();
+
+        Deque<Map.Entry<URI, Integer>> frontier = new ArrayDeque<>();
+        Set<String> seen = new HashSet<>();
+        frontier.add(Map.entry(start, 0));
+        seen.add(start.toString());
+        int loaded = 0;
+        try {
+            while (!frontier.isEmpty() && loaded < maxPages) {
+                Map.Entry<URI, Integer> next = frontier.poll();
+                PageLinks links;
+                try {
+                    driver.get(next.getKey().toString());
+                    links = extract(driver);
+                } catch (WebDriverException e) {
+                    logger.warn("Could not crawl {}: {}", next.getKey(), e.getMessage());
+                    continue;
+                }
+                loaded++;
+                seen.add(links.getUrl());
+                hand(links, queue, pipeline, consumer);
+
+                if (next.getValue() >= maxDepth) {
+                    continue;
+                }
+                for (String page : links.getPages()) {
+                    URI uri = toUri(links.getUrl(), page);
+                    if (uri != null && sameOrigin(start, uri) && seen.add(uri.toString())) {
+                        frontier.add(Map.entry(uri, next.getValue() + 1));
+                    }
+                }
+            }
+            hand(END, queue, pipeline, consumer);
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while crawling " + startUrl, e);
+        } finally {
+            // No-op once the consumer has finished; otherwise stops it waiting for pages that will never come
+            consumer.interrupt();
+        }
+        if (pipeline.failure != null) {
+            throw new IllegalStateException("Link check pipeline failed while crawling " + startUrl, pipeline.failure);
+        }
+
+        logger.info("Crawled {} pages from {}: {}", loaded, startUrl, report.summary());
+        return report;
+    }
+
+    /**
+     * Puts a page on the queue, waiting while it is full unless the pipeline has stopped
+     */
+    private static void hand(PageLinks links, BlockingQueue<PageLinks> queue, Pipeline pipeline, Thread consumer)
+            throws InterruptedException {
+        while (!queue.offer(links, 100, TimeUnit.MILLISECONDS)) {
+            if (pipeline.failure != null || !consumer.isAlive()) {
+                throw new IllegalStateException("Link check pipeline stopped", pipeline.failure);
+            }
+        }
+    }
+
+    /**
+     * Extracts the links and resources of the current page in a single round-trip
+     */
+    @SuppressWarnings("unchecked")
+    public static PageLinks extract(WebDriver driver) {
+        if (driver instanceof JavascriptExecutor) {
+            Object result = ((JavascriptExecutor) driver).executeScript(EXTRACT_SCRIPT);
+            if (result instanceof Map) {
+                Map<String, Object> links = (Map<String, Object>) result;
+                return new PageLinks(Objects.toString(links.get("url"), driver.getCurrentUrl()),
+                        (List<String>) links.getOrDefault("pages", List.of()),
+                        (List<String>) links.getOrDefault("resources", List.of()));
+            }
+        }
+        return parse(driver.getCurrentUrl(), driver.getPageSource());
+    }
+
+    /**
+     * Extracts the links and resources of a page from its HTML, resolving them
+     * against the page URL or its {@code <base href>}
+     */
+    public static PageLinks parse(String pageUrl, String html) {
+        String base = pageUrl;
+        List<String> pages = new ArrayList<>();
+        List<String> resources = new ArrayList<>();
+        Matcher tag = TAG.matcher(html == null ? "" : html);
+        while (tag.find()) {
+            String name = tag.group(1).toLowerCase(Locale.ROOT);
+            Map<String, String> attributes = attributes(tag.group());
+            String href = attributes.get("href");
+            String src = attributes.get("src");
+            switch (name) {
+                case "base":
+                    URI uri = href == null ? null : toUri(pageUrl, href);
+                    if (uri != null) {
+                        base = uri.toString();
+                    }
+                    break;
+                case "a":
+                case "area":
+                    addResolved(pages, base, href);
+                    break;
+                case "link":
+                    if (attributes.getOrDefault("rel", "").toLowerCase(Locale.ROOT).contains("stylesheet")) {
+                        addResolved(resources, base, href);
+                    }
+                    break;
+                default:
+                    addResolved(resources, base, src);
+            }
+        }
+        return new PageLinks(pageUrl, pages, resources);
+    }
+
+    private static Map<String, String> attributes(String tag) {
+        Map<String, String> attributes = new HashMap<>();
+        Matcher attribute = ATTRIBUTE.matcher(tag);
+        while (attribute.find()) {
+            String value = attribute.group(2) != null ? attribute.group(2)
+                    : attribute.group(3) != null ? attribute.group(3) : attribute.group(4);
+            attributes.putIfAbsent(attribute.group(1).toLowerCase(Locale.ROOT), value.replace("&amp;", "&"));
+        }
+        return attributes;
+    }
+
+    private static void addResolved(List<String> urls, String base, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        URI uri = toUri(base, value.trim());
+        // Unresolvable values such as javascript: links are kept for the checker to classify
+        urls.add(uri == null || uri.getScheme() == null ? value.trim() : uri.toString());
+    }
+
+    private static URI toUri(String base, String value) {
+        try {
+            return LinkChecker.resolve(base, value);
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean sameOrigin(URI start, URI uri) {
+        return start.getScheme().equalsIgnoreCase(Objects.toString(uri.getScheme(), ""))
+                && Objects.equals(start.getAuthority(), uri.getAuthority());
+    }
+
+    /**
+     * Consumer side of the pipeline: passes extracted pages to the checker with at most
+     * {@code queueSize} pages being checked at once
+     */
+    private final class Pipeline implements Runnable {
+        private final BlockingQueue<PageLinks> queue;
+        private final LinkReport report;
+        private final Semaphore inFlight = new Semaphore(queueSize);
+        private volatile RuntimeException failure;
+
+        private Pipeline(BlockingQueue<PageLinks> queue, LinkReport report) {
+            this.queue = queue;
+            this.report = report;
+        }
+
+        @Override
+        public void run() {
+            List<CompletableFuture<Void>> pending = new ArrayList<>();
+            try {
+                for (PageLinks page = queue.take(); page != END; page = queue.take()) {
+                    List<String> urls = new ArrayList<>(page.getPages());
+                    urls.addAll(page.getResources());
+                    inFlight.acquire();
+                    pending.add(checker.checkAllAsync(page.getUrl(), urls)
+                            .thenAccept(report::addAll)
+                            .whenComplete((v, e) -> inFlight.release()));
+                }
+                CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.error("Link check pipeline failed", e);
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * URLs found on one page
+     */
+    public static final class PageLinks {
+        private final String url;
+        private final List<String> pages;
+        private final List<String> resources;
+
+        PageLinks(String url, List<String> pages, List<String> resources) {
+            this.url = url;
+            this.pages = Collections.unmodifiableList(new ArrayList<>(pages));
+            this.resources = Collections.unmodifiableList(new ArrayList<>(resources));
+        }
+
+        /**
+         * Gets the URL of the page after any redirects
+         */
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * Gets the absolute URLs of anchors and image map areas
+         */
+        public List<String> getPages() {
+            return pages;
+        }
+
+        /**
+         * Gets the absolute URLs of images, scripts and stylesheets
+         */
+        public List<String> getResources() {
+            return resources;
+        }
+    }
+}
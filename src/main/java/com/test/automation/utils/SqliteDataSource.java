@@ -0,0 +1,277 @@
+package com.test.automation.utils;
+
+import java.lang.ref.Cleaner;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.sqlite.SQLiteConfig;
+
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Read-only test-data source backed by a SQLite file.
+ * Keeps a small pool of connections, each with its own prepared-statement
+ * cache, and streams query results row by row so large, filtered datasets
+ * can feed TestNG data providers without being materialized.
+ */
+public final class SqliteDataSource implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(SqliteDataSource.class);
+    private static final Map<String, SqliteDataSource> sources = new ConcurrentHashMap<>();
+    private static final Cleaner cleaner = Cleaner.create();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> sources.values().forEach(SqliteDataSource::close),
+                "sqlite-data-source-shutdown"));
+    }
+
+    private final String url;
+    private final int poolSize;
+    private final int fetchSize;
+    private final int statementCacheSize;
+    private final BlockingQueue<PooledConnection> idle;
+    private final AtomicInteger opened = new AtomicInteger();
+    private volatile boolean closed;
+
+    private SqliteDataSource(String dbPath) {
+        ConfigManager config = ConfigManager.getInstance();
+        this.url = "jdbc:sqlite:" + dbPath;
+        this.poolSize = Math.max(1, config.getIntProperty("sqlite.pool.size", 4));
+        this.fetchSize = config.getIntProperty("sqlite.fetch.size", 500);
+        this.statementCacheSize = Math.max(1, config.getIntProperty("sqlite.statement.cache.size", 32));
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * Gets the shared data source for a SQLite file
+     */
+    public static SqliteDataSource forFile(String dbPath) {
+        return sources.computeIfAbsent(dbPath, SqliteDataSource::new);
+    }
+
+    /**
+     * Runs a parameterized query and streams its rows.
+     * The connection is returned to the pool when the iterator is exhausted or closed,
+     * or, for an iterator abandoned part way, once it is garbage collected. Callers that
+     * may stop early should close it.
+     */
+    public RowIterator query(String sql, Object... params) throws SQLException {
+        PooledConnection connection = borrow();
+        try {
+            PreparedStatement statement = connection.prepare(sql);
+            statement.clearParameters();
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            statement.setFetchSize(fetchSize);
+            return new RowIterator(connection, statement.executeQuery());
+        } catch (SQLException | RuntimeException e) {
+            giveBack(connection);
+            throw e;
+        }
+    }
+
+    /**
+     * Closes all idle connections; connections still in use are closed when returned
+     */
+    @Override
+    public void close() {
+        closed = true;
+        PooledConnection connection;
+        while ((connection = idle.poll()) != null) {
+            connection.close();
+        }
+        sources.values().remove(this);
+    }
+
+    private PooledConnection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Data source is closed: " + url);
+        }
+        PooledConnection connection = idle.poll();
+        if (connection != null) {
+            return connection;
+        }
+        if (opened.incrementAndGet() <= poolSize) {
+            try {
+                SQLiteConfig sqliteConfig = new SQLiteConfig();
+                sqliteConfig.setReadOnly(true);
+                logger.debug("Opening SQLite connection {} of {} to {}", opened.get(), poolSize, url);
+                return new PooledConnection(sqliteConfig.createConnection(url), statementCacheSize);
+            } catch (SQLException e) {
+                opened.decrementAndGet();
+                throw e;
+            }
+        }
+        opened.decrementAndGet();
+
+        try {
+            connection = idle.poll(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted waiting for a SQLite connection", e);
+        }
+        if (connection == null) {
+            throw new SQLException("Timed out waiting for a SQLite connection to " + url);
+        }
+        return connection;
+    }
+
+    private void giveBack(PooledConnection connection) {
+        if (closed || !idle.offer(connection)) {
+            connection.close();
+            opened.decrementAndGet();
+        }
+    }
+
+    /**
+     * Lazily reads rows from a result set as TestNG data provider parameters
+     */
+    public final class RowIterator implements Iterator<Object[]>, AutoCloseable {
+        private final ResultSet resultSet;
+        private final int columnCount;
+        private final Cleaner.Cleanable cleanable;
+        private Boolean hasNext;
+        private boolean done;
+
+        private RowIterator(PooledConnection connection, ResultSet resultSet) throws SQLException {
+            this.resultSet = resultSet;
+            this.columnCount = resultSet.getMetaData().getColumnCount();
+            // Must not reference the iterator, or an abandoned one would never be collected
+            this.cleanable = cleaner.register(this, new Release(SqliteDataSource.this, connection, resultSet));
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (done) {
+                return false;
+            }
+            if (hasNext == null) {
+                try {
+                    hasNext = resultSet.next();
+                } catch (SQLException e) {
+                    close();
+                    throw new IllegalStateException("Failed to read SQLite row", e);
+                }
+                if (!hasNext) {
+                    close();
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = null;
+            Object[] row = new Object[columnCount];
+            try {
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = resultSet.getObject(i + 1);
+                }
+            } catch (SQLException e) {
+                close();
+                throw new IllegalStateException("Failed to read SQLite row", e);
+            }
+            return row;
+        }
+
+        /**
+         * Closes the result set and returns the connection to the pool
+         */
+        @Override
+        public void close() {
+            done = true;
+            cleanable.clean();
+        }
+    }
+
+    /**
+     * Closes the result set of a row iterator and returns its connection; runs once,
+     * on close, exhaustion or when the iterator is garbage collected
+     */
+    private static final class Release implements Runnable {
+        private final SqliteDataSource source;
+        private final PooledConnection connection;
+        private final ResultSet resultSet;
+
+        private Release(SqliteDataSource source, PooledConnection connection, ResultSet resultSet) {
+            this.source = source;
+            this.connection = connection;
+            this.resultSet = resultSet;
+        }
+
+        @Override
+        public void run() {
+            try {
+                resultSet.close();
+            } catch (SQLException e) {
+                logger.debug("Failed to close SQLite result set", e);
+            }
+            source.giveBack(connection);
+        }
+    }
+
+    /**
+     * A pooled connection with an LRU cache of its prepared statements
+     */
+    private static final class PooledConnection {
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements;
+
+        private PooledConnection(Connection connection, int cacheSize) {
+            this.connection = connection;
+            this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() > cacheSize) {
+                        closeQuietly(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null || statement.isClosed()) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            }
+            return statement;
+        }
+
+        private void close() {
+            statements.values().forEach(PooledConnection::closeQuietly);
+            statements.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.debug("Failed to close SQLite connection", e);
+            }
+        }
+
+        private static void closeQuietly(PreparedStatement statement) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                logger.debug("Failed to close prepared statement", e);
+            }
+        }
+    }
+}
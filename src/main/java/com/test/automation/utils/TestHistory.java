@@ -0,0 +1,410 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlTest;
+
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Recorded history of every test method, used by {@link ShardInterceptor} to balance
+ * shards and by {@link FailFirstInterceptor} to order tests.
+ * Each method keeps an exponential moving average of its total time per run, summed
+ * over data-provider invocations and including its own @BeforeMethod/@AfterMethod time,
+ * the time of its last run, and the outcomes of its
+ * last 32 runs as a bitmask (bit 0 is the latest run, set when it failed). The file
+ * also remembers the last commit at which the whole suite ran without failures: an
+ * unsharded run records it only when it ran the full suite file, and sharded runs only
+ * record their own outcome, which {@link #merge} combines. The history is
+ * loaded from a small properties file on first use and merged back into it, under
+ * a file lock, when the JVM exits.
+ */
+final class TestHistory {
+    private static final Logger logger = LogManager.getLogger(TestHistory.class);
+    private static final double SMOOTHING = 0.5;
+    private static final int MAX_RUNS = 32;
+    private static final String LAST_GREEN_KEY = "@last.green.commit";
+    private static final String RUN_COMMIT_KEY = "@run.commit";
+    private static final String RUN_GREEN_KEY = "@run.green";
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> runTotals = new ConcurrentHashMap<>();
+    private final Set<String> runFailures = ConcurrentHashMap.newKeySet();
+    private final Set<Configuration> threads = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Configuration> configuration = ThreadLocal.withInitial(() -> {
+        Configuration created = new Configuration();
+        threads.add(created);
+        return created;
+    });
+    private volatile boolean partialRun;
+    private final String lastGreenCommit;
+
+    private TestHistory(Path file) {
+        this.file = file;
+        Properties stored = load(file);
+        entries.putAll(parse(stored));
+        this.lastGreenCommit = stored.getProperty(LAST_GREEN_KEY);
+    }
+
+    private static final class Holder {
+        private static final TestHistory INSTANCE = create();
+
+        private static TestHistory create() {
+            TestHistory history = new TestHistory(defaultFile());
+            Runtime.getRuntime().addShutdownHook(new Thread(history::save, "test-history-writer"));
+            return history;
+        }
+    }
+
+    static TestHistory shared() {
+        return Holder.INSTANCE;
+    }
+
+    static Path defaultFile() {
+        return Paths.get(ConfigManager.getInstance().getProperty("test.history.file",
+                "test-output/history/test-history.properties"));
+    }
+
+    /**
+     * Gets the history key of a test method
+     */
+    static String key(ITestNGMethod method) {
+        return method.getQualifiedName();
+    }
+
+    /**
+     * Notes a {@code <test>} that is about to run. A test that is not from a suite file,
+     * or that narrows its classes by groups or methods, makes the run partial, so it
+     * cannot mark the commit green.
+     */
+    void testStarted(XmlTest test) {
+        String reason = null;
+        if (test.getSuite() == null || test.getSuite().getFileName() == null) {
+            reason = "not run from a suite file";
+        } else if (!isEmpty(test.getIncludedGroups()) || !isEmpty(test.getExcludedGroups())) {
+            reason = "filtered by groups";
+        } else {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                if (!isEmpty(xmlClass.getIncludedMethods()) || !isEmpty(xmlClass.getExcludedMethods())) {
+                    reason = "filtered by methods";
+                    break;
+                }
+            }
+        }
+        if (reason != null && !partialRun) {
+            partialRun = true;
+            logger.info("Partial run ({} in {}), the last green commit will not be updated", reason, test.getName());
+        }
+    }
+
+    private static boolean isEmpty(List<?> list) {
+        return list == null || list.isEmpty();
+    }
+
+    /**
+     * Marks the start of a @BeforeMethod or @AfterMethod on the current thread.
+     * A @BeforeMethod means the previous test on this thread has finished its teardown,
+     * so that test is recorded now.
+     */
+    void configurationStarted(boolean setup) {
+        Configuration current = configuration.get();
+        synchronized (current) {
+            if (setup) {
+                recordPending(current);
+            }
+            current.startNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Charges the time since {@link #configurationStarted} to the test it belongs to:
+     * setup time to the next test finished on this thread, teardown time to the last one
+     */
+    void configurationFinished(boolean setup) {
+        Configuration current = configuration.get();
+        synchronized (current) {
+            long elapsed = System.nanoTime() - current.startNanos;
+            if (setup) {
+                current.setupNanos += elapsed;
+            } else if (current.pending != null) {
+                current.pendingNanos += elapsed;
+            }
+        }
+    }
+
+    /**
+     * Notes a finished test invocation. It is recorded once its @AfterMethod methods have run,
+     * when the next test on this thread starts its setup or when the history is saved, so its
+     * duration includes its own @BeforeMethod/@AfterMethod time, where browser launch, login
+     * and quit happen and which dominates most tests.
+     */
+    void testFinished(ITestResult result) {
+        Configuration current = configuration.get();
+        synchronized (current) {
+            recordPending(current);
+            current.pending = result;
+            current.pendingNanos = current.setupNanos;
+            current.setupNanos = 0;
+        }
+    }
+
+    /**
+     * Notes a skipped test invocation, which is not recorded; neither is its setup or teardown time
+     */
+    void testSkipped() {
+        Configuration current = configuration.get();
+        synchronized (current) {
+            recordPending(current);
+            current.setupNanos = 0;
+        }
+    }
+
+    private void recordPending(Configuration current) {
+        if (current.pending != null) {
+            record(current.pending, current.pendingNanos);
+            current.pending = null;
+            current.pendingNanos = 0;
+        }
+    }
+
+    /**
+     * Records the duration and outcome of one test invocation, adding its configuration time
+     */
+    private void record(ITestResult result, long configurationNanos) {
+        String key = key(result.getMethod());
+        long millis = Math.max(0, result.getEndMillis() - result.getStartMillis())
+                + TimeUnit.NANOSECONDS.toMillis(configurationNanos);
+        runTotals.computeIfAbsent(key, k -> new LongAdder()).add(millis);
+        if (result.getStatus() == ITestResult.FAILURE) {
+            runFailures.add(key);
+        }
+    }
+
+    /**
+     * Gets the outcomes of the last runs of a test method, bit 0 being the latest and set on failure
+     */
+    int outcomes(String key) {
+        Entry entry = entries.get(key);
+        return entry == null ? 0 : entry.outcomes;
+    }
+
+    /**
+     * Gets the number of recorded runs of a test method, at most 32
+     */
+    int runs(String key) {
+        Entry entry = entries.get(key);
+        return entry == null ? 0 : entry.runs;
+    }
+
+    /**
+     * Gets the last commit at which a run finished without failures, or null
+     */
+    String lastGreenCommit() {
+        return lastGreenCommit;
+    }
+
+    /**
+     * Gets the average duration of a test method in milliseconds, or -1 if it never ran
+     */
+    long durationMillis(String key) {
+        Entry entry = entries.get(key);
+        return entry == null ? -1 : entry.durationMillis;
+    }
+
+    /**
+     * Merges the durations and outcomes recorded by this JVM into the history file
+     */
+    void save() {
+        // The last test of each thread is still waiting for a next setup
+        for (Configuration thread : threads) {
+            synchronized (thread) {
+                recordPending(thread);
+            }
+        }
+        boolean sharded = Shard.current() != null;
+        // A shard that got no methods still reports its outcome for merge
+        if (runTotals.isEmpty() && !sharded) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        boolean passed = runFailures.isEmpty() && !partialRun;
+        String head = sharded || passed ? GitChanges.headCommit() : null;
+        try {
+            update(file, (stored, properties) -> {
+                runTotals.forEach((key, total) -> {
+                    Entry previous = stored.get(key);
+                    long sample = total.sum();
+                    int failed = runFailures.contains(key) ? 1 : 0;
+                    stored.put(key, previous == null ? new Entry(sample, now, failed, 1)
+                            : new Entry(Math.round(previous.durationMillis + SMOOTHING * (sample - previous.durationMillis)),
+                                    now, previous.outcomes << 1 | failed, Math.min(MAX_RUNS, previous.runs + 1)));
+                });
+                if (sharded) {
+                    // The suite is green only if every shard is; merge decides
+                    properties.setProperty(RUN_GREEN_KEY, String.valueOf(passed));
+                    if (head != null) {
+                        properties.setProperty(RUN_COMMIT_KEY, head);
+                    } else {
+                        properties.remove(RUN_COMMIT_KEY);
+                    }
+                } else if (passed && head != null) {
+                    properties.setProperty(LAST_GREEN_KEY, head);
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Could not save test history: {}", file, e);
+        }
+    }
+
+    /**
+     * Merges history files written by separate shards into one, keeping the most
+     * recent entry of each test. The run's commit becomes the last green commit only
+     * when every shard was green at the same commit. Otherwise the last green commit
+     * reported by the shards that were not green is kept, so a red run does not lose it.
+     */
+    static void merge(List<Path> sources, Path target) throws IOException {
+        update(target, (stored, properties) -> {
+            boolean allGreen = !sources.isEmpty();
+            Set<String> runCommits = new HashSet<>();
+            Set<String> previousGreens = new HashSet<>();
+            for (Path source : sources) {
+                Properties shard = load(source);
+                boolean green = Boolean.parseBoolean(shard.getProperty(RUN_GREEN_KEY));
+                allGreen &= green;
+                runCommits.add(shard.getProperty(RUN_COMMIT_KEY, ""));
+                if (!green) {
+                    previousGreens.add(shard.getProperty(LAST_GREEN_KEY, ""));
+                }
+                parse(shard).forEach((key, entry) -> stored.merge(key, entry,
+                        (current, candidate) -> candidate.lastRunMillis > current.lastRunMillis ? candidate : current));
+            }
+            Set<String> greens = allGreen ? runCommits : previousGreens;
+            if (greens.size() == 1 && !greens.contains("")) {
+                properties.setProperty(LAST_GREEN_KEY, greens.iterator().next());
+            }
+        });
+    }
+
+    private interface Update {
+        void apply(Map<String, Entry> stored, Properties properties);
+    }
+
+    private static void update(Path file, Update update) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            Properties properties = load(file);
+            Map<String, Entry> stored = parse(properties);
+            update.apply(stored, properties);
+
+            stored.forEach((key, entry) -> properties.setProperty(key, entry.toString()));
+            Path temp = Files.createTempFile(parent, "test-history", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "Test method: average duration ms, last run epoch ms, failure bitmask, runs");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private static Properties load(Path file) {
+        Properties stored = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                stored.load(in);
+            } catch (IOException e) {
+                logger.warn("Could not read test history: {}", file, e);
+            }
+        }
+        return stored;
+    }
+
+    private static Map<String, Entry> parse(Properties stored) {
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+        for (String key : stored.stringPropertyNames()) {
+            if (key.startsWith("@")) {
+                continue;
+            }
+            Entry entry = Entry.parse(stored.getProperty(key));
+            if (entry == null) {
+                logger.debug("Ignoring malformed test history entry: {}", key);
+            } else {
+                entries.put(key, entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Timing of the configuration methods run on one thread, and the finished test
+     * still collecting its @AfterMethod time. Guarded by its own lock, since
+     * {@link #save} records what is pending from another thread.
+     */
+    private static final class Configuration {
+        private long startNanos;
+        private long setupNanos;
+        private ITestResult pending;
+        private long pendingNanos;
+    }
+
+    /**
+     * Stored history of one test method
+     */
+    private static final class Entry {
+        private final long durationMillis;
+        private final long lastRunMillis;
+        private final int outcomes;
+        private final int runs;
+
+        private Entry(long durationMillis, long lastRunMillis, int outcomes, int runs) {
+            this.durationMillis = durationMillis;
+            this.lastRunMillis = lastRunMillis;
+            this.outcomes = outcomes;
+            this.runs = runs;
+        }
+
+        /**
+         * Parses {@code duration,lastRun,outcomes,runs}; entries written before outcomes were recorded have two fields
+         */
+        private static Entry parse(String value) {
+            String[] fields = value.split(",");
+            try {
+                return new Entry(Long.parseLong(fields[0].trim()),
+                        fields.length > 1 ? Long.parseLong(fields[1].trim()) : 0,
+                        fields.length > 3 ? Integer.parseUnsignedInt(fields[2].trim(), 16) : 0,
+                        fields.length > 3 ? Integer.parseInt(fields[3].trim()) : 0);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return durationMillis + "," + lastRunMillis + "," + Integer.toHexString(outcomes) + "," + runs;
+        }
+    }
+}
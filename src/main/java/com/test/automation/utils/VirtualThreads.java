@@ -0,0 +1,64 @@
+package com.test.automation.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Creates executors that start one virtual thread per task when the runtime is
+ * Java 21 or later. The project still compiles for Java 17, so virtual threads
+ * are reached through reflection, and older runtimes get one daemon platform
+ * thread per task instead.
+ */
+public final class VirtualThreads {
+    private static final Logger logger = LogManager.getLogger(VirtualThreads.class);
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private VirtualThreads() {
+    }
+
+    /**
+     * Checks whether the runtime supports virtual threads
+     */
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates an executor that starts a new, named thread for each task
+     * @param name Prefix of the thread names
+     */
+    public static ExecutorService newPerTaskExecutor(String name) {
+        if (isSupported()) {
+            try {
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+                ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+                Method executor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                return (ExecutorService) executor.invoke(null, factory);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("Could not create virtual threads, using platform threads", e);
+            }
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
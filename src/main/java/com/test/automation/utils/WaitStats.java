@@ -0,0 +1,156 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Historical time-to-satisfy per wait key, used by {@link PollingStrategy#learned}.
+ * Each key keeps an exponential moving average of how long its waits took. The
+ * averages are loaded from a small properties file on first use and merged back
+ * into it, under a file lock, when the JVM exits.
+ */
+final class WaitStats {
+    private static final Logger logger = LogManager.getLogger(WaitStats.class);
+    private static final double SMOOTHING = 0.3;
+    private static final long MIN_INTERVAL_MILLIS = 25;
+    private static final long MAX_INTERVAL_MILLIS = 1000;
+
+    private final Path file;
+    private final Map<String, Double> averages = new ConcurrentHashMap<>();
+    private final Map<String, Double> updated = new ConcurrentHashMap<>();
+
+    private WaitStats(Path file) {
+        this.file = file;
+        Properties stored = read(file);
+        for (String key : stored.stringPropertyNames()) {
+            try {
+                averages.put(key, Double.parseDouble(stored.getProperty(key)));
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring malformed wait statistic: {}", key);
+            }
+        }
+    }
+
+    private static final class Holder {
+        private static final WaitStats INSTANCE = create();
+
+        private static WaitStats create() {
+            Path file = Paths.get(ConfigManager.getInstance().getProperty("wait.stats.file",
+                    "test-output/history/wait-stats.properties"));
+            WaitStats stats = new WaitStats(file);
+            Runtime.getRuntime().addShutdownHook(new Thread(stats::save, "wait-stats-writer"));
+            return stats;
+        }
+    }
+
+    static WaitStats shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Builds a schedule that sleeps until shortly before the expected time for the key,
+     * then backs off from a fraction of it. Keys without history use plain backoff.
+     */
+    PollingStrategy.Schedule schedule(String key) {
+        Double average = averages.get(key);
+        if (average == null) {
+            return recording(key, new PollingStrategy.Backoff(50, 2.0, MAX_INTERVAL_MILLIS, 0.2), 0);
+        }
+        long expected = Math.round(average);
+        long initial = clamp(expected / 8, MIN_INTERVAL_MILLIS, 250);
+        long first = Math.round(expected * 0.8);
+        return recording(key, new PollingStrategy.Backoff(initial, 1.5, Math.max(MAX_INTERVAL_MILLIS, expected / 2), 0.1),
+                first);
+    }
+
+    /**
+     * Records the time a wait for the key took to be satisfied
+     */
+    void record(String key, Duration elapsed) {
+        double millis = elapsed.toMillis();
+        Double merged = averages.merge(key, millis, (old, sample) -> old + SMOOTHING * (sample - old));
+        updated.put(key, merged);
+    }
+
+    private PollingStrategy.Schedule recording(String key, PollingStrategy.Schedule backoff, long firstMillis) {
+        return new PollingStrategy.Schedule() {
+            private boolean started;
+
+            @Override
+            public Duration next() {
+                if (!started) {
+                    started = true;
+                    if (firstMillis > MIN_INTERVAL_MILLIS) {
+                        return Duration.ofMillis(firstMillis);
+                    }
+                }
+                return backoff.next();
+            }
+
+            @Override
+            public void satisfied(Duration elapsed) {
+                record(key, elapsed);
+            }
+        };
+    }
+
+    /**
+     * Merges the averages updated by this JVM into the stats file
+     */
+    void save() {
+        if (updated.isEmpty()) {
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                Properties stored = read(file);
+                updated.forEach((key, average) -> stored.setProperty(key, String.valueOf(Math.round(average))));
+
+                Path temp = Files.createTempFile(parent, "wait-stats", ".tmp");
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    stored.store(out, "Average wait time-to-satisfy in milliseconds");
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not save wait statistics: {}", file, e);
+        }
+    }
+
+    private static Properties read(Path file) {
+        Properties stored = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                stored.load(in);
+            } catch (IOException e) {
+                logger.warn("Could not read wait statistics: {}", file, e);
+            }
+        }
+        return stored;
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
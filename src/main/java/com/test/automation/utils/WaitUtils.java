@@ -1,6 +1,14 @@
 package com.test.automation.utils;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
@@ -9,19 +17,133 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
 import org.openqa.selenium.support.ui.Wait;
-import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.test.automation.config.ConfigManager;
 
 /**
  * Utility class for handling various waits in Selenium.
+ * Element waits resolve inside the page with a MutationObserver where possible,
+ * so they return as soon as the element is ready instead of polling the driver.
+ * Waits that do poll follow the strategy configured by {@code wait.polling.strategy}.
  */
 public class WaitUtils {
     private static final Logger logger = LogManager.getLogger(WaitUtils.class);
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(2);
+    
+    /**
+     * Resolves with the first element matching the locator that is visible (and enabled,
+     * if required), re-checking on every DOM mutation and on a short in-page backstop
+     * timer for changes that produce no mutation, such as finished CSS transitions.
+     * Resolves with null once the timeout elapses.
+     */
+    private static final String AWAIT_ELEMENT_SCRIPT =
+            "var find = " + LocatorScripts.FIND + ";"
+            + "var isVisible = " + LocatorScripts.IS_VISIBLE + ";"
+            + "var using = arguments[0], value = arguments[1], enabled = arguments[2], timeout = arguments[3];"
+            + "var done = arguments[arguments.length - 1];"
+            + "function match() {"
+            + "  var elements = find(using, value);"
+            + "  for (var i = 0; i < elements.length; i++) {"
+            + "    var el = elements[i];"
+            + "    if (isVisible(el) && (!enabled || !el.disabled)) { return el; }"
+            + "  }"
+            + "  return null;"
+            + "}"
+            + "var found = match();"
+            + "if (found) { done(found); return; }"
+            + "var finished = false, observer, backstop, timer;"
+            + "function finish(el) {"
+            + "  if (finished) { return; }"
+            + "  finished = true;"
+            + "  observer.disconnect(); clearInterval(backstop); clearTimeout(timer);"
+            + "  done(el);"
+            + "}"
+            + "function check() { var el = match(); if (el) { finish(el); } }"
+            + "observer = new MutationObserver(check);"
+            + "observer.observe(document.documentElement || document,"
+            + "  {childList: true, subtree: true, attributes: true, characterData: true});"
+            + "backstop = setInterval(check, 250);"
+            + "timer = setTimeout(function () { finish(null); }, timeout);";
+    
+    /**
+     * Counts in-flight fetch and XHR requests in {@code window.__networkTracker}.
+     * Safe to run more than once per document.
+     */
+    private static final String NETWORK_TRACKER_SCRIPT =
+            "(function () {"
+            + "  if (window.__networkTracker) { return; }"
+            + "  var tracker = window.__networkTracker = {pending: 0, last: Date.now()};"
+            + "  function start() { tracker.pending++; tracker.last = Date.now(); }"
+            + "  function end() { tracker.pending = Math.max(0, tracker.pending - 1); tracker.last = Date.now(); }"
+            + "  if (window.fetch) {"
+            + "    var originalFetch = window.fetch;"
+            + "    window.fetch = function () {"
+            + "      start();"
+            + "      try {"
+            + "        return originalFetch.apply(this, arguments).then("
+            + "          function (response) { end(); return response; },"
+            + "          function (error) { end(); throw error; });"
+            + "      } catch (e) { end(); throw e; }"
+            + "    };"
+            + "  }"
+            + "  if (window.XMLHttpRequest) {"
+            + "    var originalSend = XMLHttpRequest.prototype.send;"
+            + "    XMLHttpRequest.prototype.send = function () {"
+            + "      var finished = false;"
+            + "      function once() { if (!finished) { finished = true; end(); } }"
+            + "      start();"
+            + "      this.addEventListener('loadend', once);"
+            + "      try { return originalSend.apply(this, arguments); } catch (e) { once(); throw e; }"
+            + "    };"
+            + "  }"
+            + "})();";
+    
+    /**
+     * Resolves with true once no request has been in flight for the idle window,
+     * or with false when the timeout elapses. Checks run inside the page.
+     */
+    private static final String AWAIT_NETWORK_IDLE_SCRIPT =
+            NETWORK_TRACKER_SCRIPT
+            + "var idle = arguments[0], deadline = Date.now() + arguments[1];"
+            + "var done = arguments[arguments.length - 1];"
+            + "var tracker = window.__networkTracker;"
+            + "(function check() {"
+            + "  var now = Date.now(), quiet = now - tracker.last;"
+            + "  if (tracker.pending === 0 && quiet >= idle) { done(true); return; }"
+            + "  if (now >= deadline) { done(false); return; }"
+            + "  setTimeout(check, tracker.pending === 0 ? Math.max(5, idle - quiet) : 25);"
+            + "})();";
+    
+    /**
+     * Drivers that already evaluate the network tracker in every new document
+     */
+    private static final Set<WebDriver> trackedDrivers = Collections.newSetFromMap(new WeakHashMap<>());
+    
+    /**
+     * Script timeout last set on each driver by {@link #ensureScriptTimeout}
+     */
+    private static final Map<WebDriver, Duration> scriptTimeouts = new WeakHashMap<>();
+    private static final PollingStrategy FIXED_POLLING = PollingStrategy.fixed(Duration.ofMillis(500));
+    private static volatile Duration defaultTimeout = readDefaultTimeout();
+    private static volatile String defaultPolling = readDefaultPolling();
+    
+    static {
+        ConfigManager.getInstance().addListener((previous, current) -> {
+            defaultTimeout = readDefaultTimeout();
+            defaultPolling = readDefaultPolling();
+            logger.info("Default explicit wait is now {} seconds, polling {}", defaultTimeout.getSeconds(), defaultPolling);
+        });
+    }
     
     /**
      * Private constructor to prevent instantiation
@@ -29,12 +151,50 @@ public class WaitUtils {
     private WaitUtils() {
     }
     
+    private static Duration readDefaultTimeout() {
+        return Duration.ofSeconds(ConfigManager.getInstance().getIntProperty("explicit.wait", 10));
+    }
+    
+    private static String readDefaultPolling() {
+        String polling = ConfigManager.getInstance().getProperty("wait.polling.strategy", "fixed")
+                .trim().toLowerCase(Locale.ROOT);
+        if (!List.of("fixed", "backoff", "learned").contains(polling)) {
+            logger.warn("Unknown wait.polling.strategy '{}', polling at a fixed interval", polling);
+            return "fixed";
+        }
+        return polling;
+    }
+    
+    /**
+     * Gets the default explicit wait timeout, kept current when the configuration is reloaded
+     */
+    public static Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+    
+    /**
+     * Gets the polling strategy of the default waits, set by {@code wait.polling.strategy}:
+     * {@code fixed} polls every 500 ms like WebDriverWait, {@code backoff} uses
+     * {@link PollingStrategy#backoff()} and {@code learned} uses {@link PollingStrategy#learned}
+     * with the given key
+     */
+    public static PollingStrategy getDefaultPolling(String key) {
+        switch (defaultPolling) {
+            case "backoff":
+                return PollingStrategy.backoff();
+            case "learned":
+                return PollingStrategy.learned(key);
+            default:
+                return FIXED_POLLING;
+        }
+    }
+    
     /**
      * Waits for page to fully load
      */
     public static void waitForPageLoad(WebDriver driver, int timeoutInSeconds) {
         logger.info("Waiting for page to load completely");
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        Wait<WebDriver> wait = fluentWait(driver, Duration.ofSeconds(timeoutInSeconds), getDefaultPolling("pageLoad"));
         
         try {
             wait.until((ExpectedCondition<Boolean>) wd ->
@@ -53,8 +213,7 @@ public class WaitUtils {
      */
     public static WebElement waitForElementVisible(WebDriver driver, By locator, int timeoutInSeconds) {
         logger.debug("Waiting for element to be visible: " + locator);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return awaitElement(driver, locator, false, timeoutInSeconds);
     }
     
     /**
@@ -62,8 +221,90 @@ public class WaitUtils {
      */
     public static WebElement waitForElementClickable(WebDriver driver, By locator, int timeoutInSeconds) {
         logger.debug("Waiting for element to be clickable: " + locator);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return awaitElement(driver, locator, true, timeoutInSeconds);
+    }
+    
+    /**
+     * Waits for a visible, optionally enabled, element using an in-page MutationObserver.
+     * Falls back to polling with the default strategy for the remaining time when the driver or
+     * locator cannot run the observer, or when the driver disagrees with the page about
+     * the element's state.
+     */
+    private static WebElement awaitElement(WebDriver driver, By locator, boolean clickable, int timeoutInSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+        String condition = clickable ? "clickable" : "visible";
+        
+        if (canObserve(driver, locator)) {
+            boolean timedOut = false;
+            try {
+                WebElement element = observe(driver, locator, clickable, Duration.ofSeconds(timeoutInSeconds));
+                if (element == null) {
+                    timedOut = true;
+                } else if (element.isDisplayed() && (!clickable || element.isEnabled())) {
+                    return element;
+                } else {
+                    logger.debug("Driver does not consider {} {} yet, polling instead", locator, condition);
+                }
+            } catch (StaleElementReferenceException e) {
+                logger.debug("Element went stale after observer wait, polling instead: {}", locator);
+            } catch (WebDriverException e) {
+                logger.debug("MutationObserver wait unavailable, polling instead: {}", e.getMessage());
+            }
+            if (timedOut) {
+                throw new TimeoutException("Expected condition failed: waiting for element to be " + condition
+                        + " located by " + locator + " (tried for " + timeoutInSeconds + " second(s))");
+            }
+        }
+        
+        Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        Wait<WebDriver> wait = fluentWait(driver, remaining, getDefaultPolling(condition + ":" + locator));
+        return wait.until(clickable
+                ? ExpectedConditions.elementToBeClickable(locator)
+                : ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+    
+    private static boolean canObserve(WebDriver driver, By locator) {
+        return driver instanceof JavascriptExecutor
+                && LocatorScripts.supports(locator)
+                && ConfigManager.getInstance().getBooleanProperty("wait.observer.enabled", true);
+    }
+    
+    /**
+     * Runs the observer script
+     */
+    private static WebElement observe(WebDriver driver, By locator, boolean clickable, Duration timeout) {
+        Object[] arguments = LocatorScripts.arguments(locator);
+        Object result = executeAsync(driver, timeout, AWAIT_ELEMENT_SCRIPT,
+                arguments[0], arguments[1], clickable, timeout.toMillis());
+        return result instanceof WebElement ? (WebElement) result : null;
+    }
+    
+    /**
+     * Runs an async script once the driver's script timeout covers the given timeout
+     */
+    private static Object executeAsync(WebDriver driver, Duration timeout, String script, Object... arguments) {
+        ensureScriptTimeout(driver, timeout.plus(SCRIPT_TIMEOUT_MARGIN));
+        return ((JavascriptExecutor) driver).executeAsyncScript(script, arguments);
+    }
+    
+    /**
+     * Raises the driver's script timeout if the value last set here is too short.
+     * It is set to at least the default explicit wait and never lowered, so a session
+     * normally pays one extra round-trip in total rather than several per wait.
+     */
+    private static void ensureScriptTimeout(WebDriver driver, Duration needed) {
+        synchronized (scriptTimeouts) {
+            Duration current = scriptTimeouts.get(driver);
+            if (current != null && current.compareTo(needed) >= 0) {
+                return;
+            }
+        }
+        Duration floor = defaultTimeout.plus(SCRIPT_TIMEOUT_MARGIN);
+        Duration timeout = needed.compareTo(floor) > 0 ? needed : floor;
+        driver.manage().timeouts().scriptTimeout(timeout);
+        synchronized (scriptTimeouts) {
+            scriptTimeouts.put(driver, timeout);
+        }
     }
     
     /**
@@ -71,7 +312,8 @@ public class WaitUtils {
      */
     public static boolean waitForElementInvisible(WebDriver driver, By locator, int timeoutInSeconds) {
         logger.debug("Waiting for element to be invisible: " + locator);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        Wait<WebDriver> wait = fluentWait(driver, Duration.ofSeconds(timeoutInSeconds),
+                getDefaultPolling("invisible:" + locator));
         return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
     }
     
@@ -80,7 +322,8 @@ public class WaitUtils {
      */
     public static boolean waitForTextPresent(WebDriver driver, By locator, String text, int timeoutInSeconds) {
         logger.debug("Waiting for text to be present in element: " + locator + ", Text: " + text);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        Wait<WebDriver> wait = fluentWait(driver, Duration.ofSeconds(timeoutInSeconds),
+                getDefaultPolling("text:" + locator));
         return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
     }
     
@@ -104,12 +347,55 @@ public class WaitUtils {
         return wait.until(condition);
     }
     
+    /**
+     * Creates a fluent wait whose polling intervals come from the given strategy.
+     * Every call to {@code until} starts a new schedule and, once satisfied,
+     * reports its elapsed time back to the strategy.
+     */
+    public static <T> Wait<T> createFluentWait(T input, int timeoutInSeconds, PollingStrategy strategy) {
+        return fluentWait(input, Duration.ofSeconds(timeoutInSeconds), strategy);
+    }
+    
+    private static <T> Wait<T> fluentWait(T input, Duration timeout, PollingStrategy strategy) {
+        return new Wait<T>() {
+            @Override
+            public <V> V until(Function<? super T, V> isTrue) {
+                PollingStrategy.Schedule schedule = strategy.start();
+                long start = System.nanoTime();
+                long deadline = start + timeout.toNanos();
+                // Never sleep past the deadline, so long learned intervals can't overrun the timeout
+                Sleeper sleeper = ignored -> Sleeper.SYSTEM_SLEEPER.sleep(Collections.min(List.of(
+                        schedule.next(), Duration.ofNanos(Math.max(1_000_000, deadline - System.nanoTime())))));
+                V value = new FluentWait<>(input, Clock.systemDefaultZone(), sleeper)
+                        .withTimeout(timeout)
+                        .ignoring(NoSuchElementException.class)
+                        .ignoring(StaleElementReferenceException.class)
+                        .until(isTrue);
+                schedule.satisfied(Duration.ofNanos(System.nanoTime() - start));
+                return value;
+            }
+        };
+    }
+    
+    /**
+     * Waits for a custom condition, polling according to the given strategy
+     */
+    public static <T, R> R waitForCondition(T input, Function<T, R> condition, int timeoutInSeconds, PollingStrategy strategy) {
+        logger.debug("Waiting for custom condition");
+        return createFluentWait(input, timeoutInSeconds, strategy).until(condition);
+    }
+    
     /**
      * Waits for AJAX calls to complete
      */
     public static void waitForAjax(WebDriver driver, int timeoutInSeconds) {
         logger.debug("Waiting for AJAX calls to complete");
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        if (!isScriptTrue(driver, "return typeof window.jQuery !== 'undefined' && typeof jQuery.active === 'number'")) {
+            logger.debug("jQuery not available, waiting for network idle instead");
+            waitForNetworkIdle(driver, timeoutInSeconds, defaultIdleMillis());
+            return;
+        }
+        Wait<WebDriver> wait = fluentWait(driver, Duration.ofSeconds(timeoutInSeconds), getDefaultPolling("ajax"));
         
         try {
             wait.until((ExpectedCondition<Boolean>) wd -> 
@@ -125,7 +411,13 @@ public class WaitUtils {
      */
     public static void waitForAngular(WebDriver driver, int timeoutInSeconds) {
         logger.debug("Waiting for Angular requests to complete");
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        if (!isScriptTrue(driver, "try { return !!(window.angular && angular.element(document).injector()); }"
+                + " catch (e) { return false; }")) {
+            logger.debug("AngularJS not available, waiting for network idle instead");
+            waitForNetworkIdle(driver, timeoutInSeconds, defaultIdleMillis());
+            return;
+        }
+        Wait<WebDriver> wait = fluentWait(driver, Duration.ofSeconds(timeoutInSeconds), getDefaultPolling("angular"));
         
         try {
             wait.until((ExpectedCondition<Boolean>) wd -> {
@@ -138,4 +430,73 @@ public class WaitUtils {
             logger.warn("Angular wait timed out or Angular not available", e);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Waits until no fetch or XHR request has been in flight for {@code idleMillis}.
+     * Requests are counted by an interceptor injected into the page; on Chromium
+     * drivers it is also registered through DevTools so it is present from the start
+     * of every new document. Returns false if the page did not go idle in time.
+     */
+    public static boolean waitForNetworkIdle(WebDriver driver, int timeoutInSeconds, long idleMillis) {
+        logger.debug("Waiting for {} ms of network idle", idleMillis);
+        if (!(driver instanceof JavascriptExecutor)) {
+            logger.warn("Driver cannot run scripts, skipping network idle wait");
+            return false;
+        }
+        trackNewDocuments(driver);
+        
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                break;
+            }
+            try {
+                Object idle = executeAsync(driver, Duration.ofMillis(remainingMillis), AWAIT_NETWORK_IDLE_SCRIPT,
+                        idleMillis, remainingMillis);
+                if (Boolean.TRUE.equals(idle)) {
+                    logger.debug("Network idle");
+                    return true;
+                }
+                break;
+            } catch (WebDriverException e) {
+                // Typically the document was replaced mid-wait; start tracking the new one
+                logger.debug("Network idle wait interrupted, retrying: {}", e.getMessage());
+            }
+        }
+        logger.warn("Network did not go idle within {} seconds", timeoutInSeconds);
+        return false;
+    }
+    
+    /**
+     * Registers the network tracker for every new document, once per Chromium driver
+     */
+    private static void trackNewDocuments(WebDriver driver) {
+        if (!(driver instanceof HasCdp)) {
+            return;
+        }
+        synchronized (trackedDrivers) {
+            if (!trackedDrivers.add(driver)) {
+                return;
+            }
+        }
+        try {
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", NETWORK_TRACKER_SCRIPT));
+        } catch (WebDriverException e) {
+            logger.debug("Could not register network tracker through DevTools", e);
+        }
+    }
+    
+    private static long defaultIdleMillis() {
+        return ConfigManager.getInstance().getIntProperty("wait.network.idle.ms", 500);
+    }
+    
+    private static boolean isScriptTrue(WebDriver driver, String script) {
+        try {
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(script));
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+}
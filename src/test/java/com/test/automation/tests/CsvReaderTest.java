@@ -0,0 +1,101 @@
+package com.test.automation.tests;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.test.automation.utils.CsvReader;
+import com.test.automation.utils.DataUtils;
+
+/**
+ * Test class for the CSV test-data reader.
+ */
+public class CsvReaderTest {
+    private Path csvFile;
+
+    @BeforeClass
+    public void createCsvFile() throws IOException {
+        csvFile = Files.createTempFile("csv-reader-test", ".csv");
+        Files.write(csvFile, ("username,password,comment\r\n"
+                + "alice,secret,\"says \"\"hi\"\", twice\"\r\n"
+                + "\r\n"
+                + "bob,hunter2,\"line one\nline two\"\n"
+                + "carol,,\n"
+                + "dave,pw").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterClass
+    public void deleteCsvFile() throws IOException {
+        Files.deleteIfExists(csvFile);
+    }
+
+    /**
+     * Test quoting, embedded line breaks, blank lines and short rows
+     */
+    @Test(description = "Verify RFC 4180 quoting rules are applied")
+    public void testQuotedFields() {
+        List<Map<String, String>> data = DataUtils.getCsvData(csvFile.toString());
+
+        Assert.assertEquals(data.size(), 4, "Unexpected number of rows");
+        Assert.assertEquals(data.get(0).get("comment"), "says \"hi\", twice");
+        Assert.assertEquals(data.get(1).get("comment"), "line one\nline two");
+        Assert.assertEquals(data.get(2).get("password"), "");
+        Assert.assertEquals(data.get(3).get("comment"), "", "Missing trailing column should read as empty");
+        Assert.assertNull(data.get(0).get("unknown"), "Unknown column should not be present");
+    }
+
+    /**
+     * Test the lazy data provider iterator
+     */
+    @Test(description = "Verify CSV rows stream as data provider parameters")
+    public void testStreamCsvData() {
+        Iterator<Object[]> rows = DataUtils.streamCsvData(csvFile.toString());
+
+        Object[] first = rows.next();
+        Assert.assertEquals(first, new Object[] {"alice", "secret", "says \"hi\", twice"});
+        int count = 1;
+        while (rows.hasNext()) {
+            rows.next();
+            count++;
+        }
+        Assert.assertEquals(count, 4, "Unexpected number of streamed rows");
+    }
+
+    /**
+     * Test that a parallel stream returns every record in file order
+     */
+    @Test(description = "Verify parallel CSV parsing preserves every record and its order")
+    public void testParallelStream() throws IOException {
+        Path largeFile = Files.createTempFile("csv-reader-large", ".csv");
+        try {
+            StringBuilder content = new StringBuilder("id,note\n");
+            for (int i = 0; i < 200_000; i++) {
+                content.append(i).append(i % 5 == 0 ? ",\"a,\nb\"\n" : ",plain\n");
+            }
+            Files.write(largeFile, content.toString().getBytes(StandardCharsets.UTF_8));
+
+            try (CsvReader reader = CsvReader.open(largeFile)) {
+                List<String> ids = reader.stream().parallel()
+                        .map(record -> record.get("id"))
+                        .collect(Collectors.toList());
+
+                Assert.assertEquals(ids.size(), 200_000, "Records were lost or duplicated");
+                for (int i = 0; i < ids.size(); i++) {
+                    Assert.assertEquals(ids.get(i), String.valueOf(i), "Records out of order");
+                }
+            }
+        } finally {
+            Files.deleteIfExists(largeFile);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.test.automation.tests;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.test.automation.utils.ExcelStreamReader;
+
+/**
+ * Test class for the streaming XLSX reader, run against a small generated workbook.
+ */
+public class ExcelStreamReaderTest {
+    private Path workbookFile;
+
+    @BeforeClass
+    public void createWorkbook() throws IOException {
+        workbookFile = Files.createTempFile("excel-stream-reader-test", ".xlsx");
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(10);
+             OutputStream out = Files.newOutputStream(workbookFile)) {
+            Sheet users = workbook.createSheet("Users");
+            Row header = users.createRow(0);
+            header.createCell(0).setCellValue("username");
+            header.createCell(1).setCellValue("attempts");
+            header.createCell(2).setCellValue("locked");
+            Row alice = users.createRow(1);
+            alice.createCell(0).setCellValue("alice");
+            alice.createCell(1).setCellValue(3);
+            alice.createCell(2).setCellValue(true);
+            // Row 2 is left out, row 3 only has its first cell
+            users.createRow(3).createCell(0).setCellValue("bob");
+
+            workbook.createSheet("Empty");
+            workbook.write(out);
+            workbook.dispose();
+        }
+    }
+
+    @AfterClass
+    public void deleteWorkbook() throws IOException {
+        Files.deleteIfExists(workbookFile);
+    }
+
+    /**
+     * Test header handling, value conversion, skipped rows and short rows
+     */
+    @Test(description = "Verify sheet rows stream with the header's width")
+    public void testStreamRows() throws IOException {
+        List<Object[]> rows = new ArrayList<>();
+        try (ExcelStreamReader reader = ExcelStreamReader.open(workbookFile.toString(), "Users")) {
+            Assert.assertEquals(reader.getHeader(), new String[] {"username", "attempts", "locked"});
+            reader.forEachRemaining(rows::add);
+        }
+
+        Assert.assertEquals(rows.size(), 2, "Missing rows should be skipped");
+        Assert.assertEquals(rows.get(0), new Object[] {"alice", 3.0, true});
+        Assert.assertEquals(rows.get(1), new Object[] {"bob", "", ""}, "Missing cells should read as empty");
+    }
+
+    /**
+     * Test that a sheet without a header row is rejected instead of yielding empty rows
+     */
+    @Test(description = "Verify a sheet without a header row is rejected")
+    public void testMissingHeader() throws IOException {
+        try {
+            ExcelStreamReader.open(workbookFile.toString(), "Empty").close();
+            Assert.fail("A sheet without a header row should be rejected");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("Empty"), "The error should name the sheet");
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.testng.annotations.Test;
 
 import com.test.automation.config.ConfigManager;
 import com.test.automation.core.BaseTest;
+import com.test.automation.core.PageRegistry;
 import com.test.automation.pages.HomePage;
 import com.test.automation.pages.LoginPage;
 
@@ -33,12 +34,12 @@ public class HomePageTest extends BaseTest {
         String password = ConfigManager.getInstance().getProperty("test.password");
         
         // Login before testing home page
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = PageRegistry.get(driver, LoginPage.class);
         loginPage.navigateTo(baseUrl + "/login");
         loginPage.login(username, password);
         
         // Initialize home page
-        homePage = new HomePage(driver);
+        homePage = PageRegistry.get(driver, HomePage.class);
         homePage.waitForPageToLoad();
     }
     
@@ -115,7 +116,7 @@ public class HomePageTest extends BaseTest {
                 "URL does not indicate user was logged out");
         
         // Verify login page is displayed
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = PageRegistry.get(driver, LoginPage.class);
         Assert.assertTrue(loginPage.isElementPresent(By.id("username")),
                 "Login page username field is not displayed after logout");
         
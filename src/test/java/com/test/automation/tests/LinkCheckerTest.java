@@ -0,0 +1,159 @@
+package com.test.automation.tests;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.test.automation.utils.LinkChecker;
+import com.test.automation.utils.LinkReport;
+import com.test.automation.utils.LinkResult;
+
+/**
+ * Test class for the link checker, run against a local HTTP server.
+ */
+public class LinkCheckerTest {
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final AtomicInteger slowActive = new AtomicInteger();
+    private final AtomicInteger slowPeak = new AtomicInteger();
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            hits.computeIfAbsent(exchange.getRequestMethod() + " " + path, k -> new AtomicInteger()).incrementAndGet();
+            switch (path) {
+                case "/ok":
+                    respond(exchange, 200);
+                    break;
+                case "/no-head":
+                    respond(exchange, "HEAD".equals(exchange.getRequestMethod()) ? 405 : 200);
+                    break;
+                case "/moved":
+                    exchange.getResponseHeaders().set("Location", "/ok");
+                    respond(exchange, 301);
+                    break;
+                case "/loop":
+                    exchange.getResponseHeaders().set("Location", "/loop");
+                    respond(exchange, 302);
+                    break;
+                case "/error":
+                    respond(exchange, 500);
+                    break;
+                default:
+                    if (path.startsWith("/slow")) {
+                        slowPeak.accumulateAndGet(slowActive.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(100);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        slowActive.decrementAndGet();
+                        respond(exchange, 200);
+                    } else {
+                        respond(exchange, 404);
+                    }
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass
+    public void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        byte[] body = ("status " + status).getBytes(StandardCharsets.UTF_8);
+        boolean head = "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, head ? -1 : body.length);
+        if (!head) {
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+
+    /**
+     * Test classification of working, missing, failing and redirecting links
+     */
+    @Test(description = "Verify links are classified by their final response")
+    public void testOutcomes() {
+        LinkChecker checker = new LinkChecker(4, Duration.ofSeconds(5), 3);
+        LinkReport report = checker.checkAll(baseUrl + "/page/index.html",
+                Arrays.asList("/ok", "../missing", "/error", "/no-head", "/moved#top", "/loop", null, "mailto:qa@example.com", "#top"));
+
+        assertOutcome(report, "/ok", LinkResult.Outcome.OK);
+        assertOutcome(report, "/missing", LinkResult.Outcome.BROKEN);
+        assertOutcome(report, "/error", LinkResult.Outcome.BROKEN);
+        assertOutcome(report, "/loop", LinkResult.Outcome.REDIRECT_LIMIT);
+
+        LinkResult noHead = report.get(baseUrl + "/no-head");
+        Assert.assertEquals(noHead.getOutcome(), LinkResult.Outcome.OK, "HEAD rejection should fall back to GET");
+        Assert.assertEquals(noHead.getMethod(), "GET");
+
+        LinkResult moved = report.get(baseUrl + "/moved");
+        Assert.assertEquals(moved.getOutcome(), LinkResult.Outcome.OK, "Redirect should be followed");
+        Assert.assertEquals(moved.getFinalUrl(), baseUrl + "/ok");
+
+        Assert.assertEquals(report.getBroken().size(), 3, "Unexpected broken links: " + report.getBroken());
+        long skipped = report.getResults().stream().filter(r -> r.getOutcome() == LinkResult.Outcome.SKIPPED).count();
+        Assert.assertEquals(skipped, 3, "Null, mailto and fragment links should be skipped");
+    }
+
+    /**
+     * Test that links shared by several pages are requested once
+     */
+    @Test(description = "Verify results are cached across pages")
+    public void testResultsAreCached() {
+        LinkChecker checker = new LinkChecker(4, Duration.ofSeconds(5), 3);
+        checker.checkAll(baseUrl + "/first", List.of("/cached", "/cached"));
+        LinkReport second = checker.checkAll(baseUrl + "/second", List.of("/cached"));
+
+        Assert.assertEquals(hits.get("HEAD /cached").get(), 1, "Cached link was requested again");
+        Assert.assertEquals(second.get(baseUrl + "/cached").getOutcome(), LinkResult.Outcome.BROKEN);
+        Assert.assertEquals(second.getPages(baseUrl + "/cached"), Set.of(baseUrl + "/second"));
+    }
+
+    /**
+     * Test the per-host concurrency limit
+     */
+    @Test(description = "Verify requests per host are limited")
+    public void testHostConcurrencyLimit() {
+        LinkChecker checker = new LinkChecker(2, Duration.ofSeconds(5), 3);
+        List<String> links = Arrays.asList("/slow1", "/slow2", "/slow3", "/slow4", "/slow5", "/slow6");
+        LinkReport report = checker.checkAll(baseUrl + "/", links);
+
+        Assert.assertTrue(report.getBroken().isEmpty(), "Unexpected broken links: " + report.getBroken());
+        Assert.assertTrue(slowPeak.get() <= 2, "More than 2 concurrent requests: " + slowPeak.get());
+        Assert.assertEquals(slowPeak.get(), 2, "Requests should run concurrently up to the limit");
+    }
+
+    private void assertOutcome(LinkReport report, String path, LinkResult.Outcome expected) {
+        LinkResult result = report.get(baseUrl + path);
+        Assert.assertNotNull(result, "No result for " + path);
+        Assert.assertEquals(result.getOutcome(), expected, "Unexpected outcome for " + result);
+    }
+}
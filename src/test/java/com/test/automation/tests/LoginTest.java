@@ -11,6 +11,7 @@ import org.testng.annotations.Test;
 
 import com.test.automation.config.ConfigManager;
 import com.test.automation.core.BaseTest;
+import com.test.automation.core.PageRegistry;
 import com.test.automation.pages.HomePage;
 import com.test.automation.pages.LoginPage;
 
@@ -38,8 +39,8 @@ public class LoginTest extends BaseTest {
         String baseUrl = ConfigManager.getInstance().getProperty("base.url");
         
         // Initialize pages
-        LoginPage loginPage = new LoginPage(driver);
-        HomePage homePage = new HomePage(driver);
+        LoginPage loginPage = PageRegistry.get(driver, LoginPage.class);
+        HomePage homePage = PageRegistry.get(driver, HomePage.class);
         
         // Navigate to login page
         loginPage.navigateTo(baseUrl + "/login");
@@ -68,7 +69,7 @@ public class LoginTest extends BaseTest {
         String baseUrl = ConfigManager.getInstance().getProperty("base.url");
         
         // Initialize pages
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = PageRegistry.get(driver, LoginPage.class);
         
         // Navigate to login page
         loginPage.navigateTo(baseUrl + "/login");
@@ -108,8 +109,8 @@ public class LoginTest extends BaseTest {
         String baseUrl = ConfigManager.getInstance().getProperty("base.url");
         
         // Initialize pages
-        LoginPage loginPage = new LoginPage(driver);
-        HomePage homePage = new HomePage(driver);
+        LoginPage loginPage = PageRegistry.get(driver, LoginPage.class);
+        HomePage homePage = PageRegistry.get(driver, HomePage.class);
         
         // Navigate to login page
         loginPage.navigateTo(baseUrl + "/login");
@@ -140,7 +141,7 @@ public class LoginTest extends BaseTest {
         String password = ConfigManager.getInstance().getProperty("test.password");
         
         // Initialize pages
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = PageRegistry.get(driver, LoginPage.class);
         
         // Navigate to login page
         loginPage.navigateTo(baseUrl + "/login");
@@ -152,14 +153,14 @@ public class LoginTest extends BaseTest {
         loginPage.clickLogin();
         
         // Verify login was successful
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = PageRegistry.get(driver, HomePage.class);
         Assert.assertTrue(homePage.isAt(), "User is not on the home page after login");
         
         // Logout
         homePage.logout();
         
         // Verify username is remembered
-        loginPage = new LoginPage(driver);
+        loginPage = PageRegistry.get(driver, LoginPage.class);
         String rememberedUsername = driver.findElement(By.id("username")).getAttribute("value");
         Assert.assertEquals(rememberedUsername, username, "Username is not remembered");
         
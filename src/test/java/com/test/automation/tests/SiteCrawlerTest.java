@@ -0,0 +1,303 @@
+package com.test.automation.tests;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpServer;
+import com.test.automation.utils.LinkChecker;
+import com.test.automation.utils.LinkReport;
+import com.test.automation.utils.LinkResult;
+import com.test.automation.utils.SiteCrawler;
+
+/**
+ * Test class for the site crawler, run against a local HTTP server.
+ * A second local server on another port stands in for an external site.
+ */
+public class SiteCrawlerTest {
+    private static final Map<String, String> PAGES = Map.of(
+            "/index.html", "<html><head><link rel=\"stylesheet\" href=\"site.css\"><script src='/app.js'></script></head>"
+                    + "<body><a href=\"a.html#top\">A</a><a href=\"/missing.html\">Missing</a>"
+                    + "<a href=\"EXTERNAL_URL/\">External</a><a href=\"javascript:void(0)\">None</a>"
+                    + "<img src=\"img/logo.png\"></body></html>",
+            "/a.html", "<html><body><a href=\"index.html\">Home</a><a href=deep.html>Deep</a></body></html>",
+            "/deep.html", "<html><body><a href=\"deeper.html\">Deeper</a></body></html>",
+            "/deeper.html", "<html><body></body></html>",
+            "/site.css", "body {}",
+            "/app.js", "");
+
+    private HttpServer server;
+    private HttpServer externalServer;
+    private String baseUrl;
+    private String externalUrl;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        externalServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        externalServer.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        externalServer.start();
+        externalUrl = "http://127.0.0.1:" + externalServer.getAddress().getPort();
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String body = page(exchange.getRequestURI().getPath());
+            byte[] bytes = (body == null ? "Not found" : body).getBytes(StandardCharsets.UTF_8);
+            boolean head = "HEAD".equals(exchange.getRequestMethod());
+            exchange.sendResponseHeaders(body == null ? 404 : 200, head ? -1 : bytes.length);
+            if (!head) {
+                exchange.getResponseBody().write(bytes);
+            }
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass
+    public void stopServer() {
+        server.stop(0);
+        externalServer.stop(0);
+    }
+
+    private String page(String path) {
+        String body = PAGES.get(path);
+        return body == null ? null : body.replace("EXTERNAL_URL", externalUrl);
+    }
+
+    /**
+     * Test extraction of pages and resources from page source
+     */
+    @Test(description = "Verify links are extracted and resolved from page source")
+    public void testParsePageSource() {
+        SiteCrawler.PageLinks links = SiteCrawler.parse(baseUrl + "/index.html", page("/index.html"));
+
+        Assert.assertEquals(links.getPages(), List.of(baseUrl + "/a.html", baseUrl + "/missing.html",
+                externalUrl + "/", "javascript:void(0)"));
+        Assert.assertEquals(links.getResources(), List.of(baseUrl + "/site.css", baseUrl + "/app.js",
+                baseUrl + "/img/logo.png"));
+    }
+
+    /**
+     * Test the breadth-first crawl with a depth limit, checking every link found
+     */
+    @Test(description = "Verify the crawler checks links up to the depth limit")
+    public void testCrawlToDepthLimit() {
+        SourceDriver driver = new SourceDriver();
+        SiteCrawler crawler = new SiteCrawler(driver, new LinkChecker(4, Duration.ofSeconds(2), 3), 1, 50, 2);
+        LinkReport report = crawler.crawl(baseUrl + "/index.html");
+
+        Assert.assertEquals(driver.loaded, List.of(baseUrl + "/index.html", baseUrl + "/a.html",
+                baseUrl + "/missing.html"), "Pages beyond depth 1 or on other hosts should not be loaded");
+        Assert.assertEquals(report.get(baseUrl + "/deep.html").getOutcome(), LinkResult.Outcome.OK,
+                "Links on the deepest crawled pages should still be checked");
+        Assert.assertNull(report.get(baseUrl + "/deeper.html"), "Links beyond the depth limit should not be checked");
+        Assert.assertEquals(report.get(baseUrl + "/img/logo.png").getOutcome(), LinkResult.Outcome.BROKEN);
+        Assert.assertEquals(report.get(baseUrl + "/site.css").getOutcome(), LinkResult.Outcome.OK);
+        Assert.assertEquals(report.get(externalUrl + "/").getOutcome(), LinkResult.Outcome.OK,
+                "Links to other hosts should be checked but not crawled");
+        Assert.assertEquals(report.getPages(baseUrl + "/index.html"), Set.of(baseUrl + "/a.html"));
+    }
+
+    /**
+     * Test that drivers with JavaScript extract each page with the extract script
+     */
+    @Test(description = "Verify the crawler extracts links with one script per page")
+    public void testCrawlWithScriptDriver() {
+        ScriptDriver driver = new ScriptDriver(null);
+        SiteCrawler crawler = new SiteCrawler(driver, new LinkChecker(4, Duration.ofSeconds(2), 3), 1, 50, 2);
+        LinkReport report = crawler.crawl(baseUrl + "/index.html");
+
+        Assert.assertEquals(driver.scripts, 3, "Expected one extract script per loaded page");
+        Assert.assertEquals(driver.loaded, List.of(baseUrl + "/index.html", baseUrl + "/a.html",
+                baseUrl + "/missing.html"));
+        Assert.assertEquals(report.get(baseUrl + "/deep.html").getOutcome(), LinkResult.Outcome.OK);
+        Assert.assertEquals(report.get(baseUrl + "/img/logo.png").getOutcome(), LinkResult.Outcome.BROKEN);
+        Assert.assertEquals(report.getPages(baseUrl + "/index.html"), Set.of(baseUrl + "/a.html"));
+    }
+
+    /**
+     * Test that a failure while checking stops the crawl and is rethrown
+     */
+    @Test(description = "Verify a link check failure fails the crawl")
+    public void testCheckerFailure() {
+        // The checker cannot handle a non-string link, as a misbehaving script result might contain
+        ScriptDriver driver = new ScriptDriver(42);
+        SiteCrawler crawler = new SiteCrawler(driver, new LinkChecker(4, Duration.ofSeconds(2), 3), 0, 50, 2);
+
+        IllegalStateException error = Assert.expectThrows(IllegalStateException.class,
+                () -> crawler.crawl(baseUrl + "/index.html"));
+        Assert.assertTrue(error.getMessage().startsWith("Link check pipeline failed"), error.getMessage());
+        Assert.assertTrue(error.getCause() instanceof ClassCastException, "Unexpected cause: " + error.getCause());
+    }
+
+    /**
+     * Test that a failure in the crawl loop does not leave the checking thread waiting for pages
+     */
+    @Test(description = "Verify a failing crawl stops the link check pipeline")
+    public void testCrawlFailureStopsPipeline() throws InterruptedException {
+        SourceDriver driver = new SourceDriver() {
+            @Override
+            public void get(String url) {
+                if (url.endsWith("/a.html")) {
+                    throw new IllegalStateException("Driver failed");
+                }
+                super.get(url);
+            }
+        };
+        SiteCrawler crawler = new SiteCrawler(driver, new LinkChecker(4, Duration.ofSeconds(2), 3), 1, 50, 2);
+
+        IllegalStateException error = Assert.expectThrows(IllegalStateException.class,
+                () -> crawler.crawl(baseUrl + "/index.html"));
+        Assert.assertEquals(error.getMessage(), "Driver failed");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pipelineThreadAlive() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Assert.assertFalse(pipelineThreadAlive(), "Link check pipeline thread is still running");
+    }
+
+    private static boolean pipelineThreadAlive() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().equals("link-check-pipeline") && thread.isAlive());
+    }
+
+    /**
+     * Driver stand-in without JavaScript that loads page source over HTTP
+     */
+    private static class SourceDriver implements WebDriver {
+        private final HttpClient client = HttpClient.newHttpClient();
+        final List<String> loaded = new ArrayList<>();
+        private String currentUrl;
+        private String source;
+
+        @Override
+        public void get(String url) {
+            try {
+                HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url)).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                loaded.add(url);
+                currentUrl = url;
+                source = response.body();
+            } catch (IOException e) {
+                throw new WebDriverException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException(e);
+            }
+        }
+
+        @Override
+        public String getCurrentUrl() {
+            return currentUrl;
+        }
+
+        @Override
+        public String getPageSource() {
+            return source;
+        }
+
+        @Override
+        public String getTitle() {
+            return "";
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return List.of();
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            throw new NoSuchElementException("No elements in page source driver");
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void quit() {
+        }
+
+        @Override
+        public Set<String> getWindowHandles() {
+            return Set.of("main");
+        }
+
+        @Override
+        public String getWindowHandle() {
+            return "main";
+        }
+
+        @Override
+        public TargetLocator switchTo() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Navigation navigate() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Options manage() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Driver stand-in that answers the extract script as a browser would, from the page source
+     */
+    private static final class ScriptDriver extends SourceDriver implements JavascriptExecutor {
+        private final Object extraPage;
+        private int scripts;
+
+        /**
+         * @param extraPage Value appended to every page's links, or null
+         */
+        private ScriptDriver(Object extraPage) {
+            this.extraPage = extraPage;
+        }
+
+        @Override
+        public Object executeScript(String script, Object... args) {
+            Assert.assertTrue(script.contains("querySelectorAll"), "Unexpected script: " + script);
+            scripts++;
+            SiteCrawler.PageLinks links = SiteCrawler.parse(getCurrentUrl(), getPageSource());
+            List<Object> pages = new ArrayList<>(links.getPages());
+            if (extraPage != null) {
+                pages.add(extraPage);
+            }
+            return Map.of("url", getCurrentUrl(), "base", getCurrentUrl(),
+                    "pages", pages, "resources", links.getResources());
+        }
+
+        @Override
+        public Object executeAsyncScript(String script, Object... args) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
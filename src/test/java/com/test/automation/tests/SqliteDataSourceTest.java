@@ -0,0 +1,84 @@
+package com.test.automation.tests;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.test.automation.utils.SqliteDataSource;
+
+/**
+ * Test class for the SQLite data source, run against a temporary database file.
+ */
+public class SqliteDataSourceTest {
+    private static final String LOCKED_USERS = "SELECT username, attempts FROM users WHERE region = ? AND locked = 1 ORDER BY username";
+
+    private Path dbFile;
+    private SqliteDataSource source;
+
+    @BeforeClass
+    public void createDatabase() throws IOException, SQLException {
+        dbFile = Files.createTempFile("sqlite-data-source-test", ".db");
+        try (Connection connection = java.sql.DriverManager.getConnection("jdbc:sqlite:" + dbFile);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (username TEXT, region TEXT, locked INTEGER, attempts INTEGER)");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO users VALUES (?, ?, ?, ?)")) {
+                for (int i = 0; i < 100; i++) {
+                    insert.setString(1, String.format("user%03d", i));
+                    insert.setString(2, i % 2 == 0 ? "EU" : "US");
+                    insert.setInt(3, i % 4 == 0 ? 1 : 0);
+                    insert.setInt(4, i);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+        source = SqliteDataSource.forFile(dbFile.toString());
+    }
+
+    @AfterClass
+    public void deleteDatabase() throws IOException {
+        source.close();
+        Files.deleteIfExists(dbFile);
+    }
+
+    /**
+     * Test a parameterized query streamed to the end
+     */
+    @Test(description = "Verify query rows stream in order with their bound parameters")
+    public void testQuery() throws SQLException {
+        List<Object[]> rows = new ArrayList<>();
+        source.query(LOCKED_USERS, "EU").forEachRemaining(rows::add);
+
+        Assert.assertEquals(rows.size(), 25, "Unexpected number of locked EU users");
+        Assert.assertEquals(rows.get(0), new Object[] {"user000", 0});
+        Assert.assertEquals(rows.get(24), new Object[] {"user096", 96});
+    }
+
+    /**
+     * Test that closing an iterator part way returns its connection, so later queries need not wait
+     */
+    @Test(description = "Verify iterators closed early give their connection back")
+    public void testEarlyCloseReturnsConnection() throws SQLException {
+        long start = System.nanoTime();
+        // More queries than the pool has connections, each stopped after one row
+        for (int i = 0; i < 20; i++) {
+            try (SqliteDataSource.RowIterator rows = source.query(LOCKED_USERS, "EU")) {
+                Assert.assertTrue(rows.hasNext());
+                rows.next();
+            }
+        }
+        Assert.assertTrue(System.nanoTime() - start < 10_000_000_000L,
+                "Queries should not wait for connections held by closed iterators");
+    }
+}
@@ -0,0 +1,138 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.test.automation.config.ConfigManager;
+
+/**
+ * Test class for the compiled test-data cache.
+ */
+public class DataCacheTest {
+    private static final Object[][] USERS = {
+            {"alice", "secret", 1.0, true},
+            {"bob", "", 2.5, false},
+            {null, "p\u00e4ssw\u00f6rd", -0.0, null},
+            {"", null, "", "dave"}
+    };
+    private static final Object[][] ROLES = {
+            {"admin", 3.0},
+            {"", ""}
+    };
+
+    private Path source;
+
+    @BeforeMethod
+    public void createSource() throws IOException {
+        source = Files.createTempFile("data-cache-test", ".xlsx");
+        Files.write(source, "version one".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterMethod
+    public void deleteSource() throws IOException {
+        String prefix = source.getFileName().toString();
+        Files.deleteIfExists(source);
+        Path dir = Paths.get(ConfigManager.getInstance().getProperty("data.cache.dir", "target/data-cache"));
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, prefix + "*")) {
+                for (Path file : files) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that compiled sheets read back the stored cells through the memory-mapped view
+     */
+    @Test(description = "Verify compiled sheets round-trip nulls, empty strings and several sheets")
+    public void testRoundTrip() {
+        DataCache.store(source.toString(), "Users", USERS);
+        DataCache.store(source.toString(), "Roles", ROLES);
+
+        CompiledSheet users = DataCache.load(source.toString(), "Users", DataCache.Reader.WORKBOOK);
+        CompiledSheet roles = DataCache.load(source.toString(), "Roles", DataCache.Reader.WORKBOOK);
+        Assert.assertNotNull(users, "Users sheet was not compiled");
+        Assert.assertNotNull(roles, "Roles sheet was not compiled");
+
+        Assert.assertEquals(users.rowCount(), 4);
+        Assert.assertEquals(users.columnCount(), 4);
+        Assert.assertEquals(users.toArray(), new Object[][] {
+                {"alice", "secret", 1.0, true},
+                {"bob", "", 2.5, false},
+                {"", "p\u00e4ssw\u00f6rd", -0.0, ""},
+                {"", "", "", "dave"}
+        }, "Null cells should read back as empty strings");
+        Assert.assertEquals(roles.toArray(), ROLES);
+        Assert.assertNull(DataCache.load(source.toString(), "Users", DataCache.Reader.STREAMING),
+                "Sheets compiled from the workbook should not be used for streaming reads");
+    }
+
+    /**
+     * Test that streamed rows are compiled once they have all been read
+     */
+    @Test(description = "Verify rows are compiled while they are streamed")
+    public void testCompileWhileReading() {
+        Iterator<Object[]> rows = DataCache.compileWhileReading(source.toString(), "Roles", 2,
+                Arrays.asList(ROLES).iterator());
+        Assert.assertNull(DataCache.load(source.toString(), "Roles", DataCache.Reader.STREAMING),
+                "Sheet should not be published before the rows are read");
+
+        int count = 0;
+        while (rows.hasNext()) {
+            rows.next();
+            count++;
+        }
+        Assert.assertEquals(count, 2);
+
+        CompiledSheet compiled = DataCache.load(source.toString(), "Roles", DataCache.Reader.STREAMING);
+        Assert.assertNotNull(compiled, "Streamed sheet was not compiled");
+        Iterator<Object[]> cached = compiled.iterator();
+        Assert.assertEquals(cached.next(), ROLES[0]);
+        Assert.assertEquals(cached.next(), ROLES[1]);
+        Assert.assertFalse(cached.hasNext());
+    }
+
+    /**
+     * Test that editing the source selects a new compiled file and removes the stale one
+     */
+    @Test(description = "Verify the cache is invalidated when the source file changes")
+    public void testSourceChangeInvalidatesCache() throws IOException {
+        DataCache.store(source.toString(), "Users", USERS);
+        Assert.assertNotNull(DataCache.load(source.toString(), "Users", DataCache.Reader.WORKBOOK));
+
+        Files.write(source, "version two, longer".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        Assert.assertNull(DataCache.load(source.toString(), "Users", DataCache.Reader.WORKBOOK),
+                "Compiled data for the old content should not be used");
+
+        DataCache.store(source.toString(), "Users", ROLES);
+        CompiledSheet compiled = DataCache.load(source.toString(), "Users", DataCache.Reader.WORKBOOK);
+        Assert.assertNotNull(compiled);
+        Assert.assertEquals(compiled.toArray(), ROLES);
+        Assert.assertEquals(countCompiledFiles(), 1, "Stale compiled file was not removed");
+    }
+
+    private long countCompiledFiles() throws IOException {
+        Path dir = Paths.get(ConfigManager.getInstance().getProperty("data.cache.dir", "target/data-cache"));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, source.getFileName() + "-Users-*.tdc")) {
+            long count = 0;
+            for (Path ignored : files) {
+                count++;
+            }
+            return count;
+        }
+    }
+}
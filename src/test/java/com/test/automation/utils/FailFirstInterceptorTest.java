@@ -0,0 +1,55 @@
+package com.test.automation.utils;
+
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the fail-first ordering scores.
+ */
+public class FailFirstInterceptorTest {
+    /** 32 runs, only the latest failed */
+    private static final double FAILED_LAST_RUN = FailFirstInterceptor.score(32, 0b1, false);
+    /** 32 runs, every run but the latest failed */
+    private static final double HIGH_FAILURE_RATE = FailFirstInterceptor.score(32, ~0b1, false);
+    /** 3 runs, pass/fail/pass: every run flipped, the latest passed */
+    private static final double FLAKY = FailFirstInterceptor.score(3, 0b010, false);
+
+    /**
+     * Test that a failure on the last run outweighs a high failure rate
+     */
+    @Test(description = "Verify a last-run failure scores above a high failure rate")
+    public void testLastRunFailureBeatsFailureRate() {
+        Assert.assertTrue(FAILED_LAST_RUN > HIGH_FAILURE_RATE,
+                FAILED_LAST_RUN + " should be greater than " + HIGH_FAILURE_RATE);
+    }
+
+    /**
+     * Test that a high failure rate outweighs flakiness
+     */
+    @Test(description = "Verify a high failure rate scores above a flaky history")
+    public void testFailureRateBeatsFlakiness() {
+        Assert.assertTrue(HIGH_FAILURE_RATE > FLAKY, HIGH_FAILURE_RATE + " should be greater than " + FLAKY);
+        Assert.assertTrue(FLAKY > FailFirstInterceptor.score(3, 0, false), "Flaky runs should score above green runs");
+    }
+
+    /**
+     * Test that methods with equal scores keep their original order
+     */
+    @Test(description = "Verify equal scores keep their original order")
+    public void testEqualScoresKeepOrder() {
+        Map<String, Double> scores = Map.of(
+                "a", FailFirstInterceptor.score(0, 0, false),
+                "b", FLAKY,
+                "c", FailFirstInterceptor.score(0, 0, false),
+                "d", FAILED_LAST_RUN,
+                "e", FailFirstInterceptor.score(0, 0, false));
+
+        Assert.assertEquals(FailFirstInterceptor.order(List.of("a", "b", "c", "d", "e"), scores::get),
+                List.of("d", "b", "a", "c", "e"));
+        Assert.assertEquals(FailFirstInterceptor.order(List.of("e", "c", "a"), scores::get),
+                List.of("e", "c", "a"));
+    }
+}
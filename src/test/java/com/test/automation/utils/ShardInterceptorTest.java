@@ -0,0 +1,112 @@
+package com.test.automation.utils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for shard selection and the partitioning of methods across shards.
+ */
+public class ShardInterceptorTest {
+
+    /**
+     * Test that methods are spread longest first onto the least loaded shard
+     */
+    @Test(description = "Verify longest-processing-time-first balances the shards")
+    public void testPartitionBalance() {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        durations.put("e", 1L);
+        durations.put("a", 7L);
+        durations.put("d", 3L);
+        durations.put("b", 5L);
+        durations.put("c", 4L);
+
+        List<Set<String>> shards = ShardInterceptor.partition(durations, Map.of(), 2);
+
+        Assert.assertEquals(shards, List.of(Set.of("a", "d"), Set.of("b", "c", "e")),
+                "Expected both shards to carry 10 ms");
+    }
+
+    /**
+     * Test that every shard computes the same partition whatever order the methods come in
+     */
+    @Test(description = "Verify the partition depends only on names and durations")
+    public void testPartitionIsDeterministic() {
+        Map<String, Long> forward = new LinkedHashMap<>();
+        Map<String, Long> backward = new LinkedHashMap<>();
+        List<String> keys = List.of("w", "x", "y", "z", "big");
+        for (String key : keys) {
+            forward.put(key, key.equals("big") ? 20L : 5L);
+        }
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            backward.put(keys.get(i), forward.get(keys.get(i)));
+        }
+
+        List<Set<String>> shards = ShardInterceptor.partition(forward, Map.of(), 3);
+
+        Assert.assertEquals(ShardInterceptor.partition(backward, Map.of(), 3), shards);
+        Assert.assertEquals(shards, List.of(Set.of("big"), Set.of("w", "y"), Set.of("x", "z")),
+                "Equal durations should be assigned in key order");
+    }
+
+    /**
+     * Test that methods of a class with dependencies are placed as one unit
+     */
+    @Test(description = "Verify dependent methods stay on one shard")
+    public void testDependentMethodsStayTogether() {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        durations.put("Checkout/login", 10L);
+        durations.put("Checkout/pay", 10L);
+        durations.put("search", 10L);
+        durations.put("home", 10L);
+
+        List<Set<String>> independent = ShardInterceptor.partition(durations, Map.of(), 2);
+        Assert.assertNotEquals(shardOf(independent, "Checkout/login"), shardOf(independent, "Checkout/pay"),
+                "Without grouping the two methods should be split for balance");
+
+        List<Set<String>> grouped = ShardInterceptor.partition(durations,
+                Map.of("Checkout/login", "Checkout", "Checkout/pay", "Checkout"), 2);
+        Assert.assertEquals(grouped, List.of(Set.of("Checkout/login", "Checkout/pay"), Set.of("search", "home")));
+    }
+
+    private static int shardOf(List<Set<String>> shards, String key) {
+        for (int i = 0; i < shards.size(); i++) {
+            if (shards.get(i).contains(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Test parsing of valid shard settings
+     */
+    @Test(description = "Verify valid shard values are parsed")
+    public void testParseShard() {
+        Shard shard = Shard.parse(" 2 / 4 ");
+        Assert.assertEquals(shard.getIndex(), 2);
+        Assert.assertEquals(shard.getCount(), 4);
+        Assert.assertEquals(shard.toString(), "2/4");
+        Assert.assertEquals(shard.fileSuffix(), "2-of-4");
+
+        Assert.assertNull(Shard.parse(null), "No setting should run the whole suite");
+        Assert.assertNull(Shard.parse(""), "An empty setting should run the whole suite");
+        Assert.assertNull(Shard.parse("1/1"), "A single shard is the whole suite");
+    }
+
+    /**
+     * Test that malformed or out-of-range shard settings are rejected
+     */
+    @Test(description = "Verify invalid shard values are rejected")
+    public void testParseInvalidShard() {
+        for (String value : List.of("0/2", "3/2", "-1/2", "1/0", "2", "1/2/3", "a/b", "1/two")) {
+            IllegalArgumentException error = Assert.expectThrows(IllegalArgumentException.class,
+                    () -> Shard.parse(value));
+            Assert.assertTrue(error.getMessage().contains("'" + value + "'"), error.getMessage());
+        }
+    }
+}
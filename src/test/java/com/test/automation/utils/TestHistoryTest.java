@@ -0,0 +1,104 @@
+package com.test.automation.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for merging the history files written by separate shards.
+ */
+public class TestHistoryTest {
+    private Path dir;
+    private Path target;
+
+    @BeforeMethod
+    public void createHistoryDir() throws IOException {
+        dir = Files.createTempDirectory("test-history-test");
+        target = dir.resolve("test-history.properties");
+        write(target, "@last.green.commit=c0", "LoginTest.login=900,1000,0,3");
+    }
+
+    @AfterMethod
+    public void deleteHistoryDir() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Test that a run where every shard was green at one commit marks that commit green
+     */
+    @Test(description = "Verify all-green shards update the last green commit")
+    public void testMergeAllGreen() throws IOException {
+        Path first = write(dir.resolve("shard-1.properties"), "@run.green=true", "@run.commit=c2",
+                "@last.green.commit=c0", "LoginTest.login=1000,2000,0,4");
+        Path second = write(dir.resolve("shard-2.properties"), "@run.green=true", "@run.commit=c2",
+                "@last.green.commit=c0", "HomeTest.title=500,2000,0,1");
+
+        TestHistory.merge(List.of(first, second), target);
+
+        Properties merged = read(target);
+        Assert.assertEquals(merged.getProperty("@last.green.commit"), "c2");
+        Assert.assertEquals(merged.getProperty("LoginTest.login"), "1000,2000,0,4",
+                "The newer shard entry should replace the stored one");
+        Assert.assertEquals(merged.getProperty("HomeTest.title"), "500,2000,0,1");
+        Assert.assertNull(merged.getProperty("@run.green"), "Per-shard outcome should not leak into the merged file");
+    }
+
+    /**
+     * Test that green shards at different commits do not mark either commit green
+     */
+    @Test(description = "Verify shards at different commits keep the last green commit")
+    public void testMergeGreenAtDifferentCommits() throws IOException {
+        Path first = write(dir.resolve("shard-1.properties"), "@run.green=true", "@run.commit=c2");
+        Path second = write(dir.resolve("shard-2.properties"), "@run.green=true", "@run.commit=c3");
+
+        TestHistory.merge(List.of(first, second), target);
+
+        Assert.assertEquals(read(target).getProperty("@last.green.commit"), "c0");
+    }
+
+    /**
+     * Test that a red shard keeps the last green commit it was based on
+     */
+    @Test(description = "Verify a red shard does not mark the run green")
+    public void testMergeRedShard() throws IOException {
+        Path green = write(dir.resolve("shard-1.properties"), "@run.green=true", "@run.commit=c2",
+                "@last.green.commit=c1", "HomeTest.title=500,2000,0,1");
+        Path red = write(dir.resolve("shard-2.properties"), "@run.green=false", "@run.commit=c2",
+                "@last.green.commit=c1", "LoginTest.login=1200,2000,1,4");
+
+        TestHistory.merge(List.of(green, red), target);
+
+        Properties merged = read(target);
+        Assert.assertEquals(merged.getProperty("@last.green.commit"), "c1",
+                "The red shard's last green commit should be kept, not the run's commit");
+        Assert.assertEquals(merged.getProperty("LoginTest.login"), "1200,2000,1,4");
+    }
+
+    private static Path write(Path file, String... lines) throws IOException {
+        Files.write(file, String.join("\n", lines).getBytes(StandardCharsets.ISO_8859_1));
+        return file;
+    }
+
+    private static Properties read(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+}
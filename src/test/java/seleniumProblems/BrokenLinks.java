@@ -1,15 +1,14 @@
 package seleniumProblems;
 
-import org.openqa.selenium.By;
+import com.test.automation.utils.LinkChecker;
+import com.test.automation.utils.LinkReport;
+import com.test.automation.utils.LinkResult;
+import com.test.automation.utils.SiteCrawler;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeDriver;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class BrokenLinks {
     /* Understand the problem domain context to get the concept
@@ -29,43 +28,34 @@ public class BrokenLinks {
     static final String herokuapp = "https://the-internet.herokuapp.com/";
     static final String amazon = "https://amazon.com/";
     static final String demoqa = "https://demoqa.com/links";
-    static WebDriver driver = new ChromeDriver();
 
     public static void main(String[] args) {
-        // Step - 1: Identify the broken links
-        driver.get(herokuapp);
-        driver.manage().window().maximize();
-        List<WebElement> elementList = driver.findElements(By.tagName("a"));
+        boolean crawl = args.length > 0 && "--crawl".equals(args[0]);
+        WebDriver driver = new ChromeDriver();
+        LinkReport report;
+        try {
+            if (crawl) {
+                // Walk the whole site breadth-first, checking each page's links while the next pages load
+                report = new SiteCrawler(driver).crawl(herokuapp);
+            } else {
+                // Step - 1: Identify the links, all of them in one round-trip rather than one per anchor
+                driver.get(herokuapp);
+                driver.manage().window().maximize();
+                SiteCrawler.PageLinks links = SiteCrawler.extract(driver);
 
-        Set<String> setLinks = new HashSet<>();
-        for (WebElement element : elementList) {
-            String url = element.getDomAttribute("href");
-            setLinks.add(url); // avoid duplicate links
+                // Step - 2 and 3: Check the status code of each distinct link, concurrently and without blocking a thread per link
+                List<String> urls = new ArrayList<>(links.getPages());
+                urls.addAll(links.getResources());
+                report = new LinkChecker().checkAll(links.getUrl(), urls);
+            }
+        } finally {
+            driver.quit();
         }
-        System.out.println(setLinks);
 
-
-        // Step - 2: Check the status code of the link using java API
-        ExecutorService executorService = Executors.newFixedThreadPool(50);
-        for (String uri : setLinks) {
-            executorService.submit(() -> {
-                try {
-                    java.net.HttpURLConnection connection = (java.net.HttpURLConnection) new java.net.URL(uri).openConnection();
-                    connection.setRequestMethod("HEAD");
-                    connection.connect();
-                    int responseCode = connection.getResponseCode();
-                    if (responseCode == 200) {
-                        System.out.println(uri + " is a valid link");
-                    } else {
-                        System.out.println(uri + " is a broken link with response code: " + responseCode);
-                    }
-                } catch (Exception e) {
-                    System.out.println(uri + " is a broken link with exception: " + e.getMessage());
-                }
-            });
+        for (LinkResult result : report.getResults()) {
+            System.out.println(result);
         }
-        driver.close();
-        driver.quit();
+        System.out.println(report.summary());
     }
 
     /**